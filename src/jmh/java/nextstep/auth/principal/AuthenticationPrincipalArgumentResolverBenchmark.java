@@ -0,0 +1,93 @@
+package nextstep.auth.principal;
+
+import nextstep.auth.token.JwtTokenProvider;
+import nextstep.auth.token.TokenRevocationRegistry;
+import nextstep.common.metrics.MetricsRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 같은 토큰이 반복되는 경우(캐시 적중)와 매번 다른 토큰이 들어오는 경우(캐시 미스)를 나누어 잰다.
+ * resolveAuthenticatedRequest는 필터가 먼저 검증해 요청 속성에 사용자를 남긴 경우다.
+ */
+@State(Scope.Benchmark)
+public class AuthenticationPrincipalArgumentResolverBenchmark {
+    private static final int DISTINCT_TOKENS = 1024;
+
+    private AuthenticationPrincipalArgumentResolver cachedResolver;
+    private AuthenticationPrincipalArgumentResolver uncachedResolver;
+    private MethodParameter parameter;
+    private NativeWebRequest repeatedRequest;
+    private NativeWebRequest authenticatedRequest;
+    private NativeWebRequest[] distinctRequests;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider("atdd-1", "atdd-secret-key", "", 3600000, 1209600000);
+        cachedResolver = new AuthenticationPrincipalArgumentResolver(new UserPrincipalCache(jwtTokenProvider, new TokenRevocationRegistry(100000), new MetricsRegistry(), 10000));
+        uncachedResolver = new AuthenticationPrincipalArgumentResolver(new UserPrincipalCache(jwtTokenProvider, new TokenRevocationRegistry(100000), new MetricsRegistry(), 1));
+        parameter = new MethodParameter(AuthenticationPrincipalArgumentResolverBenchmark.class.getDeclaredMethod("handler", UserPrincipal.class), 0);
+
+        repeatedRequest = bearerRequest(jwtTokenProvider.createToken("admin@email.com", "ROLE_MEMBER"));
+        authenticatedRequest = bearerRequest(jwtTokenProvider.createToken("admin@email.com", "ROLE_MEMBER"));
+        authenticatedRequest.setAttribute(BearerAuthenticationFilter.PRINCIPAL_ATTRIBUTE, new UserPrincipal("admin@email.com", "ROLE_MEMBER"), NativeWebRequest.SCOPE_REQUEST);
+        distinctRequests = new NativeWebRequest[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            distinctRequests[i] = bearerRequest(jwtTokenProvider.createToken("member" + i + "@email.com", "ROLE_MEMBER"));
+        }
+    }
+
+    @Benchmark
+    public Object resolveCachedToken() throws Exception {
+        return cachedResolver.resolveArgument(parameter, null, repeatedRequest, null);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object resolveCachedTokenContended() throws Exception {
+        return cachedResolver.resolveArgument(parameter, null, repeatedRequest, null);
+    }
+
+    @Benchmark
+    public Object resolveAuthenticatedRequest() throws Exception {
+        return cachedResolver.resolveArgument(parameter, null, authenticatedRequest, null);
+    }
+
+    @Benchmark
+    public Object resolveUncachedToken(RequestCursor cursor) throws Exception {
+        return uncachedResolver.resolveArgument(parameter, null, distinctRequests[cursor.next()], null);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object resolveUncachedTokenContended(RequestCursor cursor) throws Exception {
+        return uncachedResolver.resolveArgument(parameter, null, distinctRequests[cursor.next()], null);
+    }
+
+    @SuppressWarnings("unused")
+    private void handler(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+    }
+
+    private static NativeWebRequest bearerRequest(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return new ServletWebRequest(request);
+    }
+
+    @State(Scope.Thread)
+    public static class RequestCursor {
+        private int index;
+
+        int next() {
+            index = (index + 1) & (DISTINCT_TOKENS - 1);
+            return index;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package nextstep.auth.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Date;
+
+/**
+ * stringSecret* 는 비밀키 문자열을 jjwt에 그대로 넘기던 이전 방식으로, 할당량 비교의 기준이다.
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+    private static final String SECRET_KEY = "atdd-secret-key";
+    private static final long VALIDITY = 3600000;
+    private static final long REFRESH_VALIDITY = 1209600000;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+    private String tokenOfPreviousKey;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider("atdd-2", "bmV4dC1zZWNyZXQta2V5", "atdd-1:" + SECRET_KEY, VALIDITY, REFRESH_VALIDITY);
+        token = jwtTokenProvider.createToken("admin@email.com", "ROLE_MEMBER");
+        tokenOfPreviousKey = new JwtTokenProvider("atdd-1", SECRET_KEY, "", VALIDITY, REFRESH_VALIDITY)
+                .createToken("admin@email.com", "ROLE_MEMBER");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtTokenProvider.createToken("admin@email.com", "ROLE_MEMBER");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String createTokenContended() {
+        return jwtTokenProvider.createToken("admin@email.com", "ROLE_MEMBER");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean validateTokenContended() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenOfPreviousKey() {
+        return jwtTokenProvider.validateToken(tokenOfPreviousKey);
+    }
+
+    @Benchmark
+    public String stringSecretCreateToken() {
+        Claims claims = Jwts.claims().setSubject("admin@email.com");
+        Date now = new Date();
+
+        return Jwts.builder()
+                .setClaims(claims)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + VALIDITY))
+                .claim("role", "ROLE_MEMBER")
+                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .compact();
+    }
+
+    @Benchmark
+    public boolean stringSecretValidateToken() {
+        return !Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(tokenOfPreviousKey)
+                .getBody().getExpiration().before(new Date());
+    }
+}
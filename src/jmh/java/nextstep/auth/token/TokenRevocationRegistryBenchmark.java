@@ -0,0 +1,53 @@
+package nextstep.auth.token;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+
+/**
+ * 요청마다 일어나는 폐기 여부 확인. 대부분의 토큰은 폐기되지 않았으므로 notRevoked가 주 경로다.
+ */
+@State(Scope.Benchmark)
+public class TokenRevocationRegistryBenchmark {
+    private static final int TOKENS = 1024;
+
+    @Param({"1000", "90000"})
+    private int revokedCount;
+
+    private TokenRevocationRegistry registry;
+    private String[] activeTokenIds;
+    private String[] revokedTokenIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        registry = new TokenRevocationRegistry(100000);
+        long expiresAt = System.currentTimeMillis() + 3600000;
+        revokedTokenIds = new String[TOKENS];
+        for (int i = 0; i < revokedCount; i++) {
+            String tokenId = UUID.randomUUID().toString();
+            registry.revoke(tokenId, expiresAt);
+            if (i < TOKENS) {
+                revokedTokenIds[i] = tokenId;
+            }
+        }
+        activeTokenIds = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            activeTokenIds[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return registry.isRevoked(activeTokenIds[next++ & (TOKENS - 1)]);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return registry.isRevoked(revokedTokenIds[next++ & (TOKENS - 1)]);
+    }
+}
@@ -0,0 +1,58 @@
+package nextstep.auth.token;
+
+import nextstep.auth.password.PasswordVerifier;
+import nextstep.common.metrics.MetricsRegistry;
+import nextstep.member.domain.CustomUserDetails;
+import nextstep.member.domain.RoleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+@State(Scope.Benchmark)
+public class TokenServiceBenchmark {
+    private static final String EMAIL = "admin@email.com";
+    private static final String PASSWORD = "password";
+
+    @Param({"4", "10"})
+    private int bcryptStrength;
+
+    private PasswordVerifier passwordVerifier;
+    private TokenService tokenService;
+
+    @Setup
+    public void setUp() {
+        passwordVerifier = new PasswordVerifier(bcryptStrength, Runtime.getRuntime().availableProcessors(), 1024, 10000, 1, 64);
+        CustomUserDetails userDetails = new CustomUserDetails(EMAIL, passwordVerifier.encode(PASSWORD), RoleType.ROLE_MEMBER.name());
+        tokenService = new TokenService(
+                username -> userDetails,
+                (username, encodedPassword) -> {
+                },
+                passwordVerifier,
+                request -> null,
+                new JwtTokenProvider("atdd-1", "atdd-secret-key", "", 3600000, 1209600000),
+                null,
+                new TokenRevocationRegistry(100000),
+                new MetricsRegistry()
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordVerifier.shutdown();
+    }
+
+    @Benchmark
+    public TokenResponse createToken() {
+        return tokenService.createToken(EMAIL, PASSWORD);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public TokenResponse createTokenContended() {
+        return tokenService.createToken(EMAIL, PASSWORD);
+    }
+}
@@ -0,0 +1,82 @@
+package nextstep.member.application;
+
+import nextstep.auth.password.PasswordVerifier;
+import nextstep.member.domain.Member;
+import nextstep.member.domain.MemberRepository;
+import nextstep.utils.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 한 명씩 저장하는 경로와 일괄 등록 경로의 초당 저장 행 수를 비교한다.
+ * 두 경로 모두 평문 비밀번호를 운영과 같은 강도로 해시하므로, 일괄 등록이 해시를 얼마나 동시에 계산하는지도 함께 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MemberImportBenchmark {
+    private static final int ROWS = 200;
+    private static final String PASSWORD = "password";
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private MemberImportService memberImportService;
+    private PasswordVerifier passwordVerifier;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("security.password.bcrypt-strength=10");
+        memberRepository = context.getBean(MemberRepository.class);
+        memberImportService = context.getBean(MemberImportService.class);
+        passwordVerifier = context.getBean(PasswordVerifier.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void singleInsert() {
+        String prefix = nextPrefix();
+        for (int i = 0; i < ROWS; i++) {
+            memberRepository.save(new Member(prefix + i + "@email.com", passwordVerifier.encode(PASSWORD), 20));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void bulkImport(Blackhole blackhole) throws IOException {
+        String prefix = nextPrefix();
+        StringBuilder csv = new StringBuilder("email,password,age\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append(prefix).append(i).append("@email.com,").append(PASSWORD).append(",20\n");
+        }
+
+        memberImportService.importMembers(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)),
+                MemberImportFormat.CSV,
+                blackhole::consume);
+    }
+
+    private String nextPrefix() {
+        return "member" + (round++) + "-";
+    }
+}
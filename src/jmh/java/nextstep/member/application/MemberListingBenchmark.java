@@ -0,0 +1,108 @@
+package nextstep.member.application;
+
+import nextstep.auth.password.PasswordVerifier;
+import nextstep.member.application.dto.MemberPageResponse;
+import nextstep.member.domain.Member;
+import nextstep.member.domain.MemberRepository;
+import nextstep.member.domain.MemberSortKey;
+import nextstep.utils.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 깊이의 페이지를 키셋과 OFFSET으로 각각 읽어, 깊어질수록 OFFSET만 느려지는지 확인한다.
+ * 같은 문장의 이전 결과를 재사용하지 않도록 H2의 OPTIMIZE_REUSE_RESULTS를 끈다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberListingBenchmark {
+    private static final int MEMBERS = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int MIN_AGE = 40;
+
+    @Param({"0", "10000", "90000"})
+    private int depth;
+
+    private ConfigurableApplicationContext context;
+    private MemberService memberService;
+    private EntityManagerFactory entityManagerFactory;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkApplication.start("spring.datasource.url=jdbc:h2:mem:listing;OPTIMIZE_REUSE_RESULTS=FALSE");
+        memberService = context.getBean(MemberService.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+
+        String encodedPassword = context.getBean(PasswordVerifier.class).encode("password");
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < MEMBERS; i++) {
+            csv.append(String.format("member%06d@email.com,", i)).append(encodedPassword).append(",").append(i % 80).append('\n');
+        }
+        context.getBean(MemberImportService.class).importMembers(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), MemberImportFormat.CSV, result -> {
+                });
+
+        if (depth > 0) {
+            Member last = context.getBean(MemberRepository.class)
+                    .findByEmail(String.format("member%06d@email.com", depth - 1))
+                    .orElseThrow(IllegalStateException::new);
+            cursor = MemberCursor.encode(MemberSortKey.ID, last);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MemberPageResponse keyset() {
+        return memberService.findMembers("id", cursor, PAGE_SIZE, null, null, null);
+    }
+
+    @Benchmark
+    public MemberPageResponse keysetFiltered() {
+        return memberService.findMembers("id", cursor, PAGE_SIZE, null, MIN_AGE, null);
+    }
+
+    @Benchmark
+    public List<Member> offset() {
+        return offsetPage("select m from Member m order by m.id", depth);
+    }
+
+    @Benchmark
+    public List<Member> offsetFiltered() {
+        return offsetPage("select m from Member m where m.age >= " + MIN_AGE + " order by m.id", depth / 2);
+    }
+
+    private List<Member> offsetPage(String jpql, int offset) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(jpql, Member.class)
+                    .setFirstResult(offset)
+                    .setMaxResults(PAGE_SIZE + 1)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package nextstep.member.application.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.auth.token.JwtTokenProvider;
+import nextstep.auth.token.TokenResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private MemberResponse memberResponse;
+    private TokenResponse tokenResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        memberResponse = new MemberResponse(1L, "admin@email.com", 20);
+        tokenResponse = new TokenResponse(new JwtTokenProvider("atdd-1", "atdd-secret-key", "", 3600000, 1209600000)
+                .createToken("admin@email.com", "ROLE_MEMBER"));
+    }
+
+    @Benchmark
+    public byte[] serializeMemberResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(memberResponse);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] serializeMemberResponseContended() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(memberResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeTokenResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tokenResponse);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] serializeTokenResponseContended() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tokenResponse);
+    }
+}
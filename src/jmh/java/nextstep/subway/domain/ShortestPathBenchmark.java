@@ -0,0 +1,130 @@
+package nextstep.subway.domain;
+
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.WeightedMultigraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 격자 모양 노선망에서 임의의 두 역 사이 최단 경로 탐색.
+ * jgraphtRebuilt는 요청마다 노선망으로 그래프를 새로 만들어 찾는 방식, jgrapht는 만들어 둔 그래프로 찾는 방식이다.
+ * allPairs는 미리 만든 경로표를 따라가기만 하고, allPairsBuild는 노선망이 바뀔 때마다 그 표를 새로 만드는 비용이다.
+ */
+@State(Scope.Benchmark)
+public class ShortestPathBenchmark {
+    private static final int STATIONS_PER_LINE = 50;
+    private static final int TRANSFER_EVERY = 5;
+    private static final int PAIRS = 1024;
+
+    @Param({"10", "40"})
+    private int lineCount;
+
+    private long[] ups;
+    private long[] downs;
+    private int[] distances;
+    private int sectionCount;
+    private SubwayGraph graph;
+    private SubwayGraph precomputed;
+    private WeightedMultigraph<Long, DefaultWeightedEdge> jgraphtGraph;
+    private long[] sources;
+    private long[] targets;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int capacity = lineCount * STATIONS_PER_LINE * 2;
+        ups = new long[capacity];
+        downs = new long[capacity];
+        distances = new int[capacity];
+        for (int line = 0; line < lineCount; line++) {
+            for (int station = 0; station + 1 < STATIONS_PER_LINE; station++) {
+                addSection(stationId(line, station), stationId(line, station + 1), 1 + random.nextInt(10));
+            }
+            for (int station = 0; line + 1 < lineCount && station < STATIONS_PER_LINE; station += TRANSFER_EVERY) {
+                addSection(stationId(line, station), stationId(line + 1, station), 1 + random.nextInt(3));
+            }
+        }
+
+        SubwayGraph.Builder builder = SubwayGraph.builder(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            builder.addSection(ups[i], "역" + ups[i], downs[i], "역" + downs[i], distances[i], distances[i]);
+        }
+        graph = builder.build(1);
+        precomputed = graph.withAllPairs(ForkJoinPool.commonPool());
+        jgraphtGraph = buildJgraphtGraph();
+
+        sources = new long[PAIRS];
+        targets = new long[PAIRS];
+        int stationCount = lineCount * STATIONS_PER_LINE;
+        for (int i = 0; i < PAIRS; i++) {
+            sources[i] = 1 + random.nextInt(stationCount);
+            targets[i] = 1 + random.nextInt(stationCount);
+        }
+    }
+
+    @Benchmark
+    public Optional<ShortestPath> csr() {
+        int pair = next++ & (PAIRS - 1);
+        return graph.findPath(sources[pair], targets[pair], PathType.DISTANCE);
+    }
+
+    @Benchmark
+    public Optional<ShortestPath> allPairs() {
+        int pair = next++ & (PAIRS - 1);
+        return precomputed.findPath(sources[pair], targets[pair], PathType.DISTANCE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SubwayGraph allPairsBuild() {
+        return graph.withAllPairs(ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public GraphPath<Long, DefaultWeightedEdge> jgrapht() {
+        int pair = next++ & (PAIRS - 1);
+        return new DijkstraShortestPath<>(jgraphtGraph).getPath(sources[pair], targets[pair]);
+    }
+
+    @Benchmark
+    public GraphPath<Long, DefaultWeightedEdge> jgraphtRebuilt() {
+        int pair = next++ & (PAIRS - 1);
+        return new DijkstraShortestPath<>(buildJgraphtGraph()).getPath(sources[pair], targets[pair]);
+    }
+
+    private WeightedMultigraph<Long, DefaultWeightedEdge> buildJgraphtGraph() {
+        WeightedMultigraph<Long, DefaultWeightedEdge> multigraph = new WeightedMultigraph<>(DefaultWeightedEdge.class);
+        for (int i = 0; i < sectionCount; i++) {
+            multigraph.addVertex(ups[i]);
+            multigraph.addVertex(downs[i]);
+            multigraph.setEdgeWeight(multigraph.addEdge(ups[i], downs[i]), distances[i]);
+        }
+        return multigraph;
+    }
+
+    private void addSection(long up, long down, int distance) {
+        ups[sectionCount] = up;
+        downs[sectionCount] = down;
+        distances[sectionCount] = distance;
+        sectionCount++;
+    }
+
+    private static long stationId(int line, int station) {
+        return 1 + (long) line * STATIONS_PER_LINE + station;
+    }
+}
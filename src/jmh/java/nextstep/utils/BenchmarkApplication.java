@@ -0,0 +1,27 @@
+package nextstep.utils;
+
+import nextstep.SubwayApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트. 웹 서버 없이 띄우고 SQL 로그와 비밀번호 해시 비용을 낮춘다.
+ */
+public class BenchmarkApplication {
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(SubwayApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "security.password.bcrypt-strength=4",
+                        "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+    }
+}
@@ -1,22 +1,37 @@
 package nextstep.auth;
 
 import nextstep.auth.principal.AuthenticationPrincipalArgumentResolver;
-import nextstep.auth.token.JwtTokenProvider;
+import nextstep.auth.principal.BearerAuthenticationFilter;
+import nextstep.auth.principal.UserPrincipalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
 
 @Configuration
 public class AuthConfig implements WebMvcConfigurer {
-    private JwtTokenProvider jwtTokenProvider;
+    private UserPrincipalCache userPrincipalCache;
 
-    public AuthConfig(JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    public AuthConfig(UserPrincipalCache userPrincipalCache) {
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     @Override
     public void addArgumentResolvers(List argumentResolvers) {
-        argumentResolvers.add(new AuthenticationPrincipalArgumentResolver(jwtTokenProvider));
+        argumentResolvers.add(new AuthenticationPrincipalArgumentResolver(userPrincipalCache));
+    }
+
+    @Bean
+    public FilterRegistrationBean<BearerAuthenticationFilter> bearerAuthenticationFilter(
+            @Value("${security.authentication.paths}") String[] paths
+    ) {
+        FilterRegistrationBean<BearerAuthenticationFilter> registration = new FilterRegistrationBean<>(new BearerAuthenticationFilter(userPrincipalCache));
+        registration.setUrlPatterns(List.of(paths));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
     }
 }
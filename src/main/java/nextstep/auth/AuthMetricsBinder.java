@@ -0,0 +1,52 @@
+package nextstep.auth;
+
+import nextstep.auth.password.PasswordVerifier;
+import nextstep.auth.principal.UserPrincipalCache;
+import nextstep.auth.token.LoginRateLimiter;
+import nextstep.auth.token.TokenRevocationRegistry;
+import nextstep.auth.token.oauth2.github.GithubConnectionPoolMetrics;
+import nextstep.auth.token.oauth2.github.GithubProfileLoader;
+import nextstep.common.metrics.MetricsRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 컴포넌트들이 이미 세고 있는 통계를 지표로 노출한다
+ */
+@Component
+public class AuthMetricsBinder {
+    public AuthMetricsBinder(
+            MetricsRegistry metricsRegistry,
+            UserPrincipalCache userPrincipalCache,
+            PasswordVerifier passwordVerifier,
+            TokenRevocationRegistry tokenRevocationRegistry,
+            LoginRateLimiter loginRateLimiter,
+            GithubProfileLoader githubProfileLoader,
+            GithubConnectionPoolMetrics githubConnectionPoolMetrics
+    ) {
+        metricsRegistry.functionCounter("principal_cache_hits_total", "Principal cache hits", userPrincipalCache::getHitCount);
+        metricsRegistry.functionCounter("principal_cache_misses_total", "Principal cache misses", userPrincipalCache::getMissCount);
+        metricsRegistry.gauge("principal_cache_size", "Cached principals", userPrincipalCache::size);
+
+        metricsRegistry.functionCounter("password_verifications_total", "Password verifications run on the verifier pool", passwordVerifier::getVerificationCount);
+        metricsRegistry.functionCounter("password_verification_rejections_total", "Password verifications rejected because the pool was saturated", passwordVerifier::getRejectionCount);
+        metricsRegistry.gauge("password_verification_queue_size", "Password verifications waiting for a worker", passwordVerifier::getQueueSize);
+        metricsRegistry.gauge("password_verification_average_seconds", "Average password verification time", () -> passwordVerifier.getAverageVerifyMillis() / 1000);
+
+        metricsRegistry.gauge("token_revocations", "Revoked tokens not yet expired", tokenRevocationRegistry::size);
+        metricsRegistry.functionCounter("token_revocation_checks_total", "Revocation checks", tokenRevocationRegistry::getCheckCount);
+        metricsRegistry.gauge("token_revocation_false_positive_ratio", "Share of revocation checks the Bloom filter passed to the exact set in vain", tokenRevocationRegistry::getFalsePositiveRatio);
+
+        metricsRegistry.functionCounter("login_rate_limit_rejections_total", "Login attempts rejected by the rate limiter", loginRateLimiter.getIpLimiter()::getRejectionCount, "key", "ip");
+        metricsRegistry.functionCounter("login_rate_limit_rejections_total", "Login attempts rejected by the rate limiter", loginRateLimiter.getEmailLimiter()::getRejectionCount, "key", "email");
+        metricsRegistry.functionCounter("login_rate_limit_evictions_total", "Active rate limit buckets evicted because too many keys were tracked", () -> loginRateLimiter.getIpLimiter().getEvictionCount() + loginRateLimiter.getEmailLimiter().getEvictionCount());
+        metricsRegistry.gauge("login_rate_limit_buckets", "Rate limit buckets not yet refilled", loginRateLimiter.getIpLimiter()::size, "key", "ip");
+        metricsRegistry.gauge("login_rate_limit_buckets", "Rate limit buckets not yet refilled", loginRateLimiter.getEmailLimiter()::size, "key", "email");
+
+        metricsRegistry.functionCounter("github_code_exchanges_total", "GitHub code exchanges performed", githubProfileLoader::getExchangeCount);
+        metricsRegistry.functionCounter("github_code_exchanges_coalesced_total", "GitHub logins that reused an in-flight or recent exchange", githubProfileLoader::getCoalescedCount);
+        metricsRegistry.gauge("github_connections", "GitHub connection pool", githubConnectionPoolMetrics::getLeased, "state", "leased");
+        metricsRegistry.gauge("github_connections", "GitHub connection pool", githubConnectionPoolMetrics::getAvailable, "state", "available");
+        metricsRegistry.gauge("github_connections", "GitHub connection pool", githubConnectionPoolMetrics::getPending, "state", "pending");
+        metricsRegistry.gauge("github_connections_max", "GitHub connection pool capacity", githubConnectionPoolMetrics::getMax);
+    }
+}
@@ -0,0 +1,8 @@
+package nextstep.auth;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class AuthorizationException extends RuntimeException {
+}
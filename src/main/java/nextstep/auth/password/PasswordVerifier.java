@@ -0,0 +1,176 @@
+package nextstep.auth.password;
+
+import nextstep.auth.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해시 계산을 요청 스레드가 아닌 전용 풀에서 수행한다.
+ * 큐가 가득 차거나 제한 시간 안에 끝나지 않으면 기다리지 않고 503으로 거절한다.
+ * 해시가 아닌 평문으로 저장된 기존 비밀번호도 비교할 수 있고, {@link #needsUpgrade}로 재해싱 대상을 알려준다.
+ * 일괄 등록처럼 한 요청이 해시를 잔뜩 만드는 작업은 {@link #encodeAllInBulk}로 별도 풀에서 계산해 로그인 풀을 차지하지 않는다.
+ */
+@Component
+public class PasswordVerifier {
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private ThreadPoolExecutor executor;
+    private ThreadPoolExecutor bulkExecutor;
+    private long timeoutMillis;
+
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder verifyNanos = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public PasswordVerifier(
+            @Value("${security.password.bcrypt-strength}") int strength,
+            @Value("${security.password.verify.threads}") int threads,
+            @Value("${security.password.verify.queue-capacity}") int queueCapacity,
+            @Value("${security.password.verify.timeout}") long timeoutMillis,
+            @Value("${security.password.bulk.threads}") int bulkThreads,
+            @Value("${security.password.bulk.queue-capacity}") int bulkQueueCapacity
+    ) {
+        this.passwordEncoder = new BCryptPasswordEncoder(strength);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new VerifierThreadFactory("password-verifier-"), new ThreadPoolExecutor.AbortPolicy());
+        this.bulkExecutor = new ThreadPoolExecutor(bulkThreads, bulkThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(bulkQueueCapacity), new VerifierThreadFactory("password-bulk-"), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (rawPassword == null || storedPassword == null || storedPassword.isEmpty()) {
+            return false;
+        }
+        if (needsUpgrade(storedPassword)) {
+            return MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return execute(() -> {
+            long start = System.nanoTime();
+            boolean matches = passwordEncoder.matches(rawPassword, storedPassword);
+            verifyNanos.add(System.nanoTime() - start);
+            verifications.increment();
+            return matches;
+        });
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 일괄 작업용 풀에 모든 해시를 먼저 맡긴 뒤 한꺼번에 기다려, 풀의 스레드 수만큼 동시에 계산한다.
+     * 풀이 가득 차면 거절하지 않고 호출한 스레드가 직접 계산한다. 결과는 입력과 같은 순서다.
+     */
+    public List<String> encodeAllInBulk(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            futures.add(bulkExecutor.submit(() -> passwordEncoder.encode(rawPassword)));
+        }
+
+        List<String> encoded = new ArrayList<>(futures.size());
+        try {
+            for (Future<String> future : futures) {
+                encoded.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(it -> it.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException();
+        } catch (ExecutionException e) {
+            futures.forEach(it -> it.cancel(true));
+            throw new IllegalStateException(e.getCause());
+        }
+        return encoded;
+    }
+
+    public boolean needsUpgrade(String storedPassword) {
+        return !BCRYPT_PATTERN.matcher(storedPassword).matches();
+    }
+
+    public long getVerificationCount() {
+        return verifications.sum();
+    }
+
+    public double getAverageVerifyMillis() {
+        long count = verifications.sum();
+        return count == 0 ? 0 : verifyNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        bulkExecutor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServiceUnavailableException();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejections.increment();
+            throw new ServiceUnavailableException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static class VerifierThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private VerifierThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package nextstep.auth.principal;
 
 import nextstep.auth.AuthenticationException;
-import nextstep.auth.token.JwtTokenProvider;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+/**
+ * {@link BearerAuthenticationFilter}가 남긴 사용자를 그대로 쓰고, 필터가 걸리지 않은 경로에서만 직접 토큰을 검증한다.
+ */
 public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
-    private JwtTokenProvider jwtTokenProvider;
+    private UserPrincipalCache userPrincipalCache;
 
-    public AuthenticationPrincipalArgumentResolver(JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    public AuthenticationPrincipalArgumentResolver(UserPrincipalCache userPrincipalCache) {
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     @Override
@@ -22,15 +26,15 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
 
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
-        String authorization = webRequest.getHeader("Authorization");
-        if (!"bearer".equalsIgnoreCase(authorization.split(" ")[0])) {
-            throw new AuthenticationException();
+        Object authenticated = webRequest.getAttribute(BearerAuthenticationFilter.PRINCIPAL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (authenticated != null) {
+            return authenticated;
         }
-        String token = authorization.split(" ")[1];
-
-        String username = jwtTokenProvider.getPrincipal(token);
-        String role = jwtTokenProvider.getRoles(token);
 
-        return new UserPrincipal(username, role);
+        String token = BearerToken.extract(webRequest.getHeader(HttpHeaders.AUTHORIZATION));
+        if (token == null) {
+            throw new AuthenticationException();
+        }
+        return userPrincipalCache.getPrincipal(token);
     }
 }
@@ -0,0 +1,52 @@
+package nextstep.auth.principal;
+
+import nextstep.auth.AuthenticationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 인증이 필요한 경로에서 디스패치 전에 Bearer 토큰을 한 번 검증한다.
+ * 헤더가 없거나 잘못되었으면 핸들러 조회나 본문 바인딩 없이 바로 401로 끝내고,
+ * 검증한 {@link UserPrincipal}은 요청 속성에 남겨 {@link AuthenticationPrincipalArgumentResolver}가 그대로 쓴다.
+ * 어떤 경로에 걸릴지는 필터 등록 시 URL 패턴으로 정하므로, 나머지 경로에서는 이 필터가 아예 돌지 않는다.
+ */
+public class BearerAuthenticationFilter extends OncePerRequestFilter {
+    public static final String PRINCIPAL_ATTRIBUTE = BearerAuthenticationFilter.class.getName() + ".PRINCIPAL";
+
+    private UserPrincipalCache userPrincipalCache;
+
+    public BearerAuthenticationFilter(UserPrincipalCache userPrincipalCache) {
+        this.userPrincipalCache = userPrincipalCache;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String token = BearerToken.extract(request.getHeader(HttpHeaders.AUTHORIZATION));
+        if (token == null) {
+            unauthorized(response);
+            return;
+        }
+
+        UserPrincipal principal;
+        try {
+            principal = userPrincipalCache.getPrincipal(token);
+        } catch (AuthenticationException e) {
+            unauthorized(response);
+            return;
+        }
+
+        request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
+        filterChain.doFilter(request, response);
+    }
+
+    private void unauthorized(HttpServletResponse response) {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+    }
+}
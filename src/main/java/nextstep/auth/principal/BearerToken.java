@@ -0,0 +1,24 @@
+package nextstep.auth.principal;
+
+/**
+ * Authorization 헤더에서 Bearer 토큰을 꺼낸다. 형식이 맞지 않으면 예외 대신 null을 돌려준다.
+ */
+public class BearerToken {
+    private static final String PREFIX = "bearer ";
+
+    private BearerToken() {
+    }
+
+    public static String extract(String authorization) {
+        if (authorization == null || authorization.length() <= PREFIX.length()
+                || !authorization.regionMatches(true, 0, PREFIX, 0, PREFIX.length())) {
+            return null;
+        }
+
+        String token = authorization.substring(PREFIX.length()).trim();
+        if (token.isEmpty() || token.indexOf(' ') >= 0) {
+            return null;
+        }
+        return token;
+    }
+}
@@ -1,12 +1,21 @@
 package nextstep.auth.principal;
 
+import java.util.Collections;
+import java.util.Map;
+
 public class UserPrincipal {
     private String username;
     private String role;
+    private Map<String, Object> attributes;
 
     public UserPrincipal(String username, String role) {
+        this(username, role, Collections.emptyMap());
+    }
+
+    public UserPrincipal(String username, String role, Map<String, Object> attributes) {
         this.username = username;
         this.role = role;
+        this.attributes = Collections.unmodifiableMap(attributes);
     }
 
     public String getUsername() {
@@ -16,4 +25,11 @@ public class UserPrincipal {
     public String getRole() {
         return role;
     }
+
+    /**
+     * 토큰에 실려 온 클레임. 없으면 null
+     */
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
 }
@@ -0,0 +1,88 @@
+package nextstep.auth.principal;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import nextstep.auth.AuthenticationException;
+import nextstep.auth.token.JwtTokenProvider;
+import nextstep.auth.token.TokenRevocationRegistry;
+import nextstep.common.cache.ExpiringCache;
+import nextstep.common.metrics.LatencyHistogram;
+import nextstep.common.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * 검증을 마친 토큰을 원문 그대로 키로 삼아 {@link UserPrincipal}을 보관한다.
+ * 토큰당 서명 검증은 한 번만 일어나고, 항목은 토큰의 exp 시각에 만료된다.
+ * 폐기 여부는 캐시에서 꺼낸 뒤에도 매번 확인한다.
+ */
+@Component
+public class UserPrincipalCache {
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenRevocationRegistry tokenRevocationRegistry;
+    private ExpiringCache<String, UserPrincipal> cache;
+    private LatencyHistogram verifyLatency;
+
+    public UserPrincipalCache(
+            JwtTokenProvider jwtTokenProvider,
+            TokenRevocationRegistry tokenRevocationRegistry,
+            MetricsRegistry metricsRegistry,
+            @Value("${security.jwt.token.cache.max-size}") int maxSize
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.cache = new ExpiringCache<>(maxSize);
+        this.verifyLatency = metricsRegistry.histogram("jwt_verify_seconds", "JWT signature verification and claim parsing latency on principal cache misses");
+    }
+
+    public UserPrincipal getPrincipal(String token) {
+        UserPrincipal principal = cache.get(token);
+        if (principal == null) {
+            principal = load(token);
+        }
+
+        if (tokenRevocationRegistry.isRevoked((String) principal.getAttribute(Claims.ID))) {
+            throw new AuthenticationException();
+        }
+        return principal;
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private UserPrincipal load(String token) {
+        Claims claims = parse(token);
+        if (JwtTokenProvider.REFRESH.equals(claims.get(JwtTokenProvider.TYPE))) {
+            throw new AuthenticationException();
+        }
+
+        UserPrincipal principal = new UserPrincipal(claims.getSubject(), claims.get("role", String.class), claims);
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            cache.put(token, principal, expiration.getTime());
+        }
+        return principal;
+    }
+
+    private Claims parse(String token) {
+        long start = System.nanoTime();
+        try {
+            return jwtTokenProvider.getClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthenticationException();
+        } finally {
+            verifyLatency.recordSince(start);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package nextstep.auth.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 토큰 서명 키 목록.
+ * 새 토큰은 현재 키로 서명하고 헤더의 kid에 키 id를 남긴다. 이전 키는 검증에만 쓰여서,
+ * 키를 바꿀 때 이전 키를 이전 키 목록으로 옮겨 두면 이미 발급된 토큰이 만료될 때까지 그대로 통한다.
+ * kid가 없는 토큰은 키 교체 전에 발급된 것으로 보고 현재 키로 검증한다.
+ */
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+    private static final String KEY_SEPARATOR = ",";
+    private static final String ID_SEPARATOR = ":";
+
+    private JwtSigningKey currentKey;
+    private Map<String, JwtSigningKey> keys = new HashMap<>();
+
+    public JwtKeyRing(JwtSigningKey currentKey, Iterable<JwtSigningKey> previousKeys) {
+        this.currentKey = currentKey;
+        for (JwtSigningKey key : previousKeys) {
+            keys.put(key.getId(), key);
+        }
+        keys.put(currentKey.getId(), currentKey);
+    }
+
+    /**
+     * "kid:secret,kid:secret" 형식의 이전 키 목록을 읽는다
+     */
+    public static JwtKeyRing of(String currentKeyId, String currentSecret, String previousKeys) {
+        Map<String, JwtSigningKey> previous = new HashMap<>();
+        for (String entry : previousKeys.split(KEY_SEPARATOR)) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] idAndSecret = entry.trim().split(ID_SEPARATOR, 2);
+            if (idAndSecret.length != 2) {
+                throw new IllegalArgumentException("이전 서명 키는 kid:secret 형식이어야 한다: " + entry);
+            }
+            previous.put(idAndSecret[0], new JwtSigningKey(idAndSecret[0], idAndSecret[1]));
+        }
+        return new JwtKeyRing(new JwtSigningKey(currentKeyId, currentSecret), previous.values());
+    }
+
+    public JwtSigningKey getCurrentKey() {
+        return currentKey;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String keyId = header.getKeyId();
+        if (keyId == null) {
+            return currentKey;
+        }
+
+        JwtSigningKey key = keys.get(keyId);
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id: " + keyId);
+        }
+        return key;
+    }
+}
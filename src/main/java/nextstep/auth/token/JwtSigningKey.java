@@ -0,0 +1,58 @@
+package nextstep.auth.token;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import io.jsonwebtoken.impl.crypto.JwtSignatureValidator;
+import io.jsonwebtoken.impl.crypto.JwtSigner;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+/**
+ * kid로 구분되는 HS256 서명 키.
+ * jjwt는 서명하거나 검증할 때마다 Mac을 새로 만들어 초기화하므로, 스레드마다 이 키로 초기화된 Mac을 하나씩 두고 재사용한다.
+ * doFinal이 Mac을 초기 상태로 되돌리므로 같은 스레드에서는 다음 호출에 그대로 쓸 수 있다.
+ */
+public class JwtSigningKey extends SecretKeySpec implements JwtSigner, JwtSignatureValidator {
+    public static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.HS256;
+
+    private final String id;
+    private final transient ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::createMac);
+
+    public JwtSigningKey(String id, String base64EncodedSecret) {
+        super(TextCodec.BASE64.decode(base64EncodedSecret), ALGORITHM.getJcaName());
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String sign(String jwtWithoutSignature) {
+        return TextCodec.BASE64URL.encode(digest(jwtWithoutSignature));
+    }
+
+    @Override
+    public boolean isValid(String jwtWithoutSignature, String base64UrlEncodedSignature) {
+        byte[] signature = TextCodec.BASE64URL.decode(base64UrlEncodedSignature);
+        return MessageDigest.isEqual(digest(jwtWithoutSignature), signature);
+    }
+
+    private byte[] digest(String jwtWithoutSignature) {
+        return macs.get().doFinal(jwtWithoutSignature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM.getJcaName());
+            mac.init(this);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,48 +1,119 @@
 package nextstep.auth.token;
 
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.impl.DefaultJwtBuilder;
+import io.jsonwebtoken.impl.DefaultJwtParser;
+import io.jsonwebtoken.impl.crypto.JwtSignatureValidator;
+import io.jsonwebtoken.impl.crypto.JwtSigner;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.security.Key;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
-    @Value("${security.jwt.token.secret-key}")
-    private String secretKey;
-    @Value("${security.jwt.token.expire-length}")
+    public static final String TYPE = "typ";
+    public static final String REFRESH = "refresh";
+
+    private JwtKeyRing keyRing;
     private long validityInMilliseconds;
+    private long refreshValidityInMilliseconds;
+
+    public JwtTokenProvider(
+            @Value("${security.jwt.token.key-id}") String keyId,
+            @Value("${security.jwt.token.secret-key}") String secretKey,
+            @Value("${security.jwt.token.previous-keys}") String previousKeys,
+            @Value("${security.jwt.token.expire-length}") long validityInMilliseconds,
+            @Value("${security.jwt.token.refresh-expire-length}") long refreshValidityInMilliseconds
+    ) {
+        this.keyRing = JwtKeyRing.of(keyId, secretKey, previousKeys);
+        this.validityInMilliseconds = validityInMilliseconds;
+        this.refreshValidityInMilliseconds = refreshValidityInMilliseconds;
+    }
 
     public String createToken(String principal, String role) {
+        return createToken(principal, role, Collections.emptyMap());
+    }
+
+    public String createToken(String principal, String role, Map<String, Object> extraClaims) {
+        Claims claims = Jwts.claims();
+        claims.putAll(extraClaims);
+        claims.setSubject(principal);
+        claims.put("role", role);
+
+        return sign(claims, validityInMilliseconds);
+    }
+
+    /**
+     * 새 액세스 토큰을 발급받는 데만 쓰이는 토큰. 역할 등 다른 클레임은 싣지 않는다
+     */
+    public String createRefreshToken(String principal) {
         Claims claims = Jwts.claims().setSubject(principal);
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + validityInMilliseconds);
+        claims.put(TYPE, REFRESH);
 
-        return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .claim("role", role)
-                .signWith(SignatureAlgorithm.HS256, secretKey)
-                .compact();
+        return sign(claims, refreshValidityInMilliseconds);
+    }
+
+    public Claims getClaims(String token) {
+        return new KeyRingJwtParser().setSigningKeyResolver(keyRing).parseClaimsJws(token).getBody();
     }
 
     public String getPrincipal(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
+        return getClaims(token).getSubject();
     }
 
     public String getRoles(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().get("role", String.class);
+        return getClaims(token).get("role", String.class);
     }
 
     public boolean validateToken(String token) {
         try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
+            Claims claims = getClaims(token);
 
-            return !claims.getBody().getExpiration().before(new Date());
+            return !claims.getExpiration().before(new Date());
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-}
 
+    private String sign(Claims claims, long validity) {
+        Date now = new Date();
+        JwtSigningKey signingKey = keyRing.getCurrentKey();
+
+        return new KeyRingJwtBuilder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getId())
+                .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + validity))
+                .signWith(JwtSigningKey.ALGORITHM, signingKey)
+                .compact();
+    }
+
+    /**
+     * 키마다 미리 만들어 둔 서명기를 그대로 쓴다
+     */
+    private static class KeyRingJwtBuilder extends DefaultJwtBuilder {
+        @Override
+        protected JwtSigner createSigner(SignatureAlgorithm alg, Key key) {
+            return (JwtSigningKey) key;
+        }
+    }
+
+    /**
+     * 키 목록에서 찾은 키의 검증기를 그대로 쓰고, HS256이 아닌 토큰은 받지 않는다
+     */
+    private static class KeyRingJwtParser extends DefaultJwtParser {
+        @Override
+        protected JwtSignatureValidator createSignatureValidator(SignatureAlgorithm alg, Key key) {
+            if (alg != JwtSigningKey.ALGORITHM || !(key instanceof JwtSigningKey)) {
+                throw new SignatureException("Unsupported signature algorithm: " + alg);
+            }
+            return (JwtSigningKey) key;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package nextstep.auth.token;
+
+import nextstep.auth.TooManyRequestsException;
+import nextstep.common.ratelimit.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도를 클라이언트 IP별, 이메일별로 제한한다. DB 조회나 GitHub 호출 전에 부른다.
+ * 클라이언트 IP는 요청의 remoteAddr이다. 로드 밸런서 뒤에서는 server.forward-headers-strategy=native로
+ * server.tomcat.remoteip.internal-proxies에 맞는 프록시가 보낸 X-Forwarded-For만 믿어 remoteAddr을 실제 클라이언트로 바꾼다.
+ * 기본 internal-proxies는 사설 대역과 루프백이므로, 프록시가 다른 대역에 있으면 이 값을 프록시 주소에 맞춰야 한다.
+ */
+@Component
+public class LoginRateLimiter {
+    private TokenBucketRateLimiter ipLimiter;
+    private TokenBucketRateLimiter emailLimiter;
+
+    public LoginRateLimiter(
+            @Value("${security.login.rate-limit.ip.capacity}") int ipCapacity,
+            @Value("${security.login.rate-limit.ip.refill-per-minute}") int ipRefillPerMinute,
+            @Value("${security.login.rate-limit.email.capacity}") int emailCapacity,
+            @Value("${security.login.rate-limit.email.refill-per-minute}") int emailRefillPerMinute,
+            @Value("${security.login.rate-limit.max-keys}") int maxKeys
+    ) {
+        this.ipLimiter = new TokenBucketRateLimiter(ipCapacity, ipRefillPerMinute, maxKeys);
+        this.emailLimiter = new TokenBucketRateLimiter(emailCapacity, emailRefillPerMinute, maxKeys);
+    }
+
+    public void checkClient(String remoteAddress) {
+        check(ipLimiter, remoteAddress);
+    }
+
+    public void checkEmail(String email) {
+        if (email != null) {
+            check(emailLimiter, email.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    public void reset() {
+        ipLimiter.reset();
+        emailLimiter.reset();
+    }
+
+    public TokenBucketRateLimiter getIpLimiter() {
+        return ipLimiter;
+    }
+
+    public TokenBucketRateLimiter getEmailLimiter() {
+        return emailLimiter;
+    }
+
+    private static void check(TokenBucketRateLimiter limiter, String key) {
+        long waitNanos = limiter.tryAcquire(key);
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException(TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+    }
+}
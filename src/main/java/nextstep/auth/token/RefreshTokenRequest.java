@@ -0,0 +1,16 @@
+package nextstep.auth.token;
+
+public class RefreshTokenRequest {
+    private String refreshToken;
+
+    public RefreshTokenRequest() {
+    }
+
+    public RefreshTokenRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+}
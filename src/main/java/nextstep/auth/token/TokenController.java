@@ -1,30 +1,67 @@
 package nextstep.auth.token;
 
+import nextstep.auth.TooManyRequestsException;
+import nextstep.auth.principal.AuthenticationPrincipal;
+import nextstep.auth.principal.UserPrincipal;
 import nextstep.auth.token.oauth2.github.GithubTokenRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+
 @RestController
 public class TokenController {
     private TokenService tokenService;
+    private LoginRateLimiter loginRateLimiter;
 
-    public TokenController(TokenService tokenService) {
+    public TokenController(TokenService tokenService, LoginRateLimiter loginRateLimiter) {
         this.tokenService = tokenService;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @PostMapping("/login/token")
-    public ResponseEntity<TokenResponse> createToken(@RequestBody TokenRequest request) {
+    public ResponseEntity<TokenResponse> createToken(@RequestBody TokenRequest request, HttpServletRequest servletRequest) {
+        loginRateLimiter.checkClient(servletRequest.getRemoteAddr());
+        loginRateLimiter.checkEmail(request.getEmail());
         TokenResponse response = tokenService.createToken(request.getEmail(), request.getPassword());
 
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/login/github")
-    public ResponseEntity<TokenResponse> createTokenByGithub(@RequestBody GithubTokenRequest request) {
+    public ResponseEntity<TokenResponse> createTokenByGithub(@RequestBody GithubTokenRequest request, HttpServletRequest servletRequest) {
+        loginRateLimiter.checkClient(servletRequest.getRemoteAddr());
         TokenResponse response = tokenService.createTokenFromGithub(request.getCode());
 
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/login/token/refresh")
+    public ResponseEntity<TokenResponse> refreshToken(@RequestBody RefreshTokenRequest request) {
+        TokenResponse response = tokenService.refreshToken(request.getRefreshToken());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestBody(required = false) RefreshTokenRequest request
+    ) {
+        tokenService.logout(userPrincipal, request == null ? null : request.getRefreshToken());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Void> handleTooManyRequests(TooManyRequestsException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .build();
+    }
 }
@@ -2,6 +2,7 @@ package nextstep.auth.token;
 
 public class TokenResponse {
     private String accessToken;
+    private String refreshToken;
 
     public TokenResponse() {
     }
@@ -10,7 +11,16 @@ public class TokenResponse {
         this.accessToken = accessToken;
     }
 
+    public TokenResponse(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
     public String getAccessToken() {
         return accessToken;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
 }
@@ -0,0 +1,98 @@
+package nextstep.auth.token;
+
+import nextstep.auth.ServiceUnavailableException;
+import nextstep.common.cache.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 폐기된 토큰의 jti 목록.
+ * 요청마다 확인하므로 블룸 필터를 앞에 두어, 폐기되지 않은 대부분의 토큰은 비트 몇 개만 읽고 통과시킨다.
+ * 필터가 있다고 답한 경우에만 정확한 목록을 본다.
+ * 항목은 토큰의 만료 시각까지만 보관하고, 정리할 때 남은 항목으로 필터를 새로 만든다.
+ * 만료되지 않은 항목만으로 가득 차면 폐기를 잊어버리는 대신 요청을 거절한다.
+ */
+@Component
+public class TokenRevocationRegistry {
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long PURGE_INTERVAL_MILLIS = 60_000;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder filterPositives = new LongAdder();
+    private final LongAdder revokedHits = new LongAdder();
+    private volatile BloomFilter filter;
+    private int maxSize;
+    private long nextPurgeAtMillis;
+
+    public TokenRevocationRegistry(@Value("${security.jwt.revocation.max-size}") int maxSize) {
+        this.maxSize = maxSize;
+        this.filter = new BloomFilter(maxSize, FALSE_POSITIVE_RATE);
+        this.nextPurgeAtMillis = System.currentTimeMillis() + PURGE_INTERVAL_MILLIS;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        checks.increment();
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+        filterPositives.increment();
+        if (!revoked.containsKey(tokenId)) {
+            return false;
+        }
+        revokedHits.increment();
+        return true;
+    }
+
+    /**
+     * @return 이번 호출로 새로 폐기되었으면 true, 이미 폐기된 토큰이면 false
+     */
+    public synchronized boolean revoke(String tokenId, long expiresAtMillis) {
+        if (revoked.containsKey(tokenId)) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now >= nextPurgeAtMillis || revoked.size() >= maxSize) {
+            purge(now);
+        }
+        if (revoked.size() >= maxSize) {
+            throw new ServiceUnavailableException();
+        }
+
+        revoked.put(tokenId, expiresAtMillis);
+        filter.put(tokenId);
+        return true;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    public long getCheckCount() {
+        return checks.sum();
+    }
+
+    /**
+     * 필터를 통과했지만 폐기 목록에 없던 비율
+     */
+    public double getFalsePositiveRatio() {
+        long positives = filterPositives.sum();
+        return positives == 0 ? 0 : (double) (positives - revokedHits.sum()) / checks.sum();
+    }
+
+    private void purge(long now) {
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        BloomFilter rebuilt = new BloomFilter(maxSize, FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+        nextPurgeAtMillis = now + PURGE_INTERVAL_MILLIS;
+    }
+}
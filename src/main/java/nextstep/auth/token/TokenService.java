@@ -1,52 +1,151 @@
 package nextstep.auth.token;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import nextstep.auth.AuthenticationException;
+import nextstep.auth.password.PasswordVerifier;
+import nextstep.auth.principal.UserPrincipal;
 import nextstep.auth.token.oauth2.OAuth2User;
 import nextstep.auth.token.oauth2.OAuth2UserService;
-import nextstep.auth.token.oauth2.github.GithubClient;
+import nextstep.auth.token.oauth2.github.GithubProfileLoader;
 import nextstep.auth.token.oauth2.github.GithubProfileResponse;
 import nextstep.auth.userdetails.UserDetails;
+import nextstep.auth.userdetails.UserDetailsPasswordService;
 import nextstep.auth.userdetails.UserDetailsService;
+import nextstep.common.metrics.Counter;
+import nextstep.common.metrics.LatencyHistogram;
+import nextstep.common.metrics.MetricsRegistry;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 @Service
 public class TokenService {
+    private static final String TOKEN_ISSUE_METRIC = "auth_token_issue_seconds";
+    private static final String TOKEN_ISSUE_HELP = "Token issuance latency by grant";
+
     private UserDetailsService userDetailsService;
+    private UserDetailsPasswordService userDetailsPasswordService;
+    private PasswordVerifier passwordVerifier;
     private OAuth2UserService oAuth2UserService;
     private JwtTokenProvider jwtTokenProvider;
-    private GithubClient githubClient;
+    private GithubProfileLoader githubProfileLoader;
+    private TokenRevocationRegistry tokenRevocationRegistry;
+    private LatencyHistogram passwordLoginLatency;
+    private LatencyHistogram githubLoginLatency;
+    private LatencyHistogram refreshLatency;
+    private Counter passwordLoginFailures;
 
     public TokenService(
             UserDetailsService userDetailsService,
+            UserDetailsPasswordService userDetailsPasswordService,
+            PasswordVerifier passwordVerifier,
             OAuth2UserService oAuth2UserService,
             JwtTokenProvider jwtTokenProvider,
-            GithubClient githubClient
+            GithubProfileLoader githubProfileLoader,
+            TokenRevocationRegistry tokenRevocationRegistry,
+            MetricsRegistry metricsRegistry
     ) {
         this.userDetailsService = userDetailsService;
+        this.userDetailsPasswordService = userDetailsPasswordService;
+        this.passwordVerifier = passwordVerifier;
         this.oAuth2UserService = oAuth2UserService;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.githubClient = githubClient;
+        this.githubProfileLoader = githubProfileLoader;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.passwordLoginLatency = metricsRegistry.histogram(TOKEN_ISSUE_METRIC, TOKEN_ISSUE_HELP, "grant", "password");
+        this.githubLoginLatency = metricsRegistry.histogram(TOKEN_ISSUE_METRIC, TOKEN_ISSUE_HELP, "grant", "github");
+        this.refreshLatency = metricsRegistry.histogram(TOKEN_ISSUE_METRIC, TOKEN_ISSUE_HELP, "grant", "refresh");
+        this.passwordLoginFailures = metricsRegistry.counter("auth_login_failures_total", "Rejected password logins", "grant", "password");
     }
 
     public TokenResponse createToken(String email, String password) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-        if (!userDetails.getPassword().equals(password)) {
-            throw new AuthenticationException();
+        long start = System.nanoTime();
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            if (!passwordVerifier.matches(password, userDetails.getPassword())) {
+                throw new AuthenticationException();
+            }
+            if (passwordVerifier.needsUpgrade(userDetails.getPassword())) {
+                userDetailsPasswordService.updatePassword(userDetails.getUsername(), passwordVerifier.encode(password));
+            }
+
+            return issueTokens(userDetails.getUsername(), userDetails.getRole(), userDetails.getClaims());
+        } catch (AuthenticationException e) {
+            passwordLoginFailures.increment();
+            throw e;
+        } finally {
+            passwordLoginLatency.recordSince(start);
         }
+    }
 
-        String token = jwtTokenProvider.createToken(userDetails.getUsername(), userDetails.getRole());
+    public TokenResponse createTokenFromGithub(String code) {
+        long start = System.nanoTime();
+        try {
+            GithubProfileResponse githubProfile = githubProfileLoader.load(code);
 
-        return new TokenResponse(token);
+            OAuth2User oAuth2User = oAuth2UserService.loadUser(githubProfile);
+
+            return issueTokens(oAuth2User.getUsername(), oAuth2User.getRole(), oAuth2User.getClaims());
+        } finally {
+            githubLoginLatency.recordSince(start);
+        }
     }
 
-    public TokenResponse createTokenFromGithub(String code) {
-        String accessTokenFromGithub = githubClient.getAccessTokenFromGithub(code);
-        GithubProfileResponse githubProfile = githubClient.getGithubProfileFromGithub(accessTokenFromGithub);
+    /**
+     * 리프레시 토큰은 한 번만 쓸 수 있다. 쓰는 즉시 폐기하고 새 리프레시 토큰을 함께 발급한다.
+     * 동시에 같은 리프레시 토큰으로 요청하면 먼저 폐기한 한 요청만 성공한다.
+     */
+    public TokenResponse refreshToken(String refreshToken) {
+        long start = System.nanoTime();
+        try {
+            Claims claims = parseRefreshToken(refreshToken);
+            if (!tokenRevocationRegistry.revoke(claims.getId(), claims.getExpiration().getTime())) {
+                throw new AuthenticationException();
+            }
+
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+            return issueTokens(userDetails.getUsername(), userDetails.getRole(), userDetails.getClaims());
+        } finally {
+            refreshLatency.recordSince(start);
+        }
+    }
+
+    /**
+     * 액세스 토큰과, 함께 주어졌다면 같은 사용자의 리프레시 토큰을 폐기한다
+     */
+    public void logout(UserPrincipal userPrincipal, String refreshToken) {
+        Object tokenId = userPrincipal.getAttribute(Claims.ID);
+        Object expiration = userPrincipal.getAttribute(Claims.EXPIRATION);
+        if (tokenId instanceof String && expiration instanceof Number) {
+            tokenRevocationRegistry.revoke((String) tokenId, ((Number) expiration).longValue() * 1000);
+        }
 
-        OAuth2User oAuth2User = oAuth2UserService.loadUser(githubProfile);
+        if (refreshToken != null) {
+            Claims claims = parseRefreshToken(refreshToken);
+            if (claims.getSubject().equals(userPrincipal.getUsername())) {
+                tokenRevocationRegistry.revoke(claims.getId(), claims.getExpiration().getTime());
+            }
+        }
+    }
 
-        String token = jwtTokenProvider.createToken(oAuth2User.getUsername(), oAuth2User.getRole());
+    private TokenResponse issueTokens(String principal, String role, Map<String, Object> claims) {
+        String accessToken = jwtTokenProvider.createToken(principal, role, claims);
+        String refreshToken = jwtTokenProvider.createRefreshToken(principal);
 
-        return new TokenResponse(token);
+        return new TokenResponse(accessToken, refreshToken);
+    }
+
+    private Claims parseRefreshToken(String refreshToken) {
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.getClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthenticationException();
+        }
+        if (!JwtTokenProvider.REFRESH.equals(claims.get(JwtTokenProvider.TYPE)) || claims.getId() == null) {
+            throw new AuthenticationException();
+        }
+        return claims;
     }
 }
@@ -1,7 +1,17 @@
 package nextstep.auth.token.oauth2;
 
+import java.util.Collections;
+import java.util.Map;
+
 public interface OAuth2User {
     String getUsername();
 
     String getRole();
+
+    /**
+     * 토큰에 함께 실을 클레임
+     */
+    default Map<String, Object> getClaims() {
+        return Collections.emptyMap();
+    }
 }
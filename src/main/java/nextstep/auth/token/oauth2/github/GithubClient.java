@@ -1,5 +1,7 @@
 package nextstep.auth.token.oauth2.github;
 
+import nextstep.common.metrics.LatencyHistogram;
+import nextstep.common.metrics.MetricsRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -12,6 +14,8 @@ import org.springframework.web.client.RestTemplate;
 
 @Component
 public class GithubClient {
+    private static final String REQUEST_METRIC = "github_request_seconds";
+    private static final String REQUEST_HELP = "GitHub API call latency including connection pool wait";
 
     @Value("${github.client.id}")
     private String clientId;
@@ -22,6 +26,16 @@ public class GithubClient {
     @Value("${github.url.profile}")
     private String profileUrl;
 
+    private RestTemplate githubRestTemplate;
+    private LatencyHistogram accessTokenLatency;
+    private LatencyHistogram profileLatency;
+
+    public GithubClient(RestTemplate githubRestTemplate, MetricsRegistry metricsRegistry) {
+        this.githubRestTemplate = githubRestTemplate;
+        this.accessTokenLatency = metricsRegistry.histogram(REQUEST_METRIC, REQUEST_HELP, "endpoint", "access_token");
+        this.profileLatency = metricsRegistry.histogram(REQUEST_METRIC, REQUEST_HELP, "endpoint", "profile");
+    }
+
     public String getAccessTokenFromGithub(String code) {
         GithubAccessTokenRequest githubAccessTokenRequest = new GithubAccessTokenRequest(
             code,
@@ -34,12 +48,11 @@ public class GithubClient {
 
         HttpEntity<MultiValueMap<String, String>> httpEntity = new HttpEntity(
             githubAccessTokenRequest, headers);
-        RestTemplate restTemplate = new RestTemplate();
 
-        String accessToken = restTemplate
+        String accessToken = accessTokenLatency.time(() -> githubRestTemplate
             .exchange(tokenUrl, HttpMethod.POST, httpEntity, GithubAccessTokenResponse.class)
             .getBody()
-            .getAccessToken();
+            .getAccessToken());
         if (accessToken == null) {
             throw new RuntimeException();
         }
@@ -51,12 +64,11 @@ public class GithubClient {
         headers.add("Authorization", "token " + accessToken);
 
         HttpEntity httpEntity = new HttpEntity<>(headers);
-        RestTemplate restTemplate = new RestTemplate();
 
         try {
-            return restTemplate
+            return profileLatency.time(() -> githubRestTemplate
                 .exchange(profileUrl, HttpMethod.GET, httpEntity, GithubProfileResponse.class)
-                .getBody();
+                .getBody());
         } catch (HttpClientErrorException e) {
             throw new RuntimeException();
         }
@@ -0,0 +1,67 @@
+package nextstep.auth.token.oauth2.github;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GitHub 호출에 쓰는 커넥션 풀과 RestTemplate.
+ * 동시에 나갈 수 있는 요청은 풀 크기(max-total)로 제한되고,
+ * 풀이 가득 찼을 때는 connection-request-timeout 만큼만 기다린 뒤 실패한다.
+ */
+@Configuration
+public class GithubClientConfig {
+    @Value("${github.http.max-total}")
+    private int maxTotal;
+    @Value("${github.http.connect-timeout}")
+    private int connectTimeout;
+    @Value("${github.http.read-timeout}")
+    private int readTimeout;
+    @Value("${github.http.connection-request-timeout}")
+    private int connectionRequestTimeout;
+    @Value("${github.http.keep-alive}")
+    private long keepAlive;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager githubConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(keepAlive, TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxTotal);
+        connectionManager.setValidateAfterInactivity(1000);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient githubHttpClient(PoolingHttpClientConnectionManager githubConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(githubConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive) : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate githubRestTemplate(CloseableHttpClient githubHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(githubHttpClient));
+    }
+}
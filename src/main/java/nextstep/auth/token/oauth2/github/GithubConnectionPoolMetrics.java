@@ -0,0 +1,34 @@
+package nextstep.auth.token.oauth2.github;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GithubConnectionPoolMetrics {
+    private PoolingHttpClientConnectionManager githubConnectionManager;
+
+    public GithubConnectionPoolMetrics(PoolingHttpClientConnectionManager githubConnectionManager) {
+        this.githubConnectionManager = githubConnectionManager;
+    }
+
+    public int getLeased() {
+        return stats().getLeased();
+    }
+
+    public int getAvailable() {
+        return stats().getAvailable();
+    }
+
+    public int getPending() {
+        return stats().getPending();
+    }
+
+    public int getMax() {
+        return stats().getMax();
+    }
+
+    private PoolStats stats() {
+        return githubConnectionManager.getTotalStats();
+    }
+}
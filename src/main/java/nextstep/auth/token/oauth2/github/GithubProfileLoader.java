@@ -0,0 +1,133 @@
+package nextstep.auth.token.oauth2.github;
+
+import nextstep.auth.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 code로 동시에 들어온 로그인 요청이 GitHub 토큰 교환과 프로필 조회를 한 번만 하도록 묶는다.
+ * 끝난 결과는 retention 동안 남겨 두어 뒤늦게 도착한 중복 요청도 재사용한다. 실패한 교환은 남기지 않는다.
+ * 기다리는 요청은 GitHub 호출 두 번이 HTTP 타임아웃을 모두 채우는 시간까지만 기다린다.
+ */
+@Component
+public class GithubProfileLoader {
+    private GithubClient githubClient;
+    private long retentionMillis;
+    private long joinTimeoutMillis;
+
+    private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeAt = new AtomicLong();
+    private final LongAdder exchanges = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public GithubProfileLoader(
+            GithubClient githubClient,
+            @Value("${github.login.coalesce-retention}") long retentionMillis,
+            @Value("${github.http.connection-request-timeout}") long connectionRequestTimeout,
+            @Value("${github.http.connect-timeout}") long connectTimeout,
+            @Value("${github.http.read-timeout}") long readTimeout
+    ) {
+        this.githubClient = githubClient;
+        this.retentionMillis = retentionMillis;
+        this.joinTimeoutMillis = 2 * (connectionRequestTimeout + connectTimeout + readTimeout);
+    }
+
+    public GithubProfileResponse load(String code) {
+        while (true) {
+            long now = System.currentTimeMillis();
+            purgeExpired(now);
+
+            Flight flight = flights.get(code);
+            if (flight == null) {
+                Flight mine = new Flight();
+                flight = flights.putIfAbsent(code, mine);
+                if (flight == null) {
+                    return exchange(code, mine);
+                }
+            }
+            if (flight.isExpired(now)) {
+                flights.remove(code, flight);
+                continue;
+            }
+
+            coalesced.increment();
+            return flight.join(joinTimeoutMillis);
+        }
+    }
+
+    public long getExchangeCount() {
+        return exchanges.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private GithubProfileResponse exchange(String code, Flight flight) {
+        exchanges.increment();
+        try {
+            String accessToken = githubClient.getAccessTokenFromGithub(code);
+            GithubProfileResponse profile = githubClient.getGithubProfileFromGithub(accessToken);
+            flight.complete(profile, System.currentTimeMillis() + retentionMillis);
+            return profile;
+        } catch (Throwable e) {
+            flights.remove(code, flight);
+            flight.fail(e);
+            throw e;
+        }
+    }
+
+    private void purgeExpired(long now) {
+        long purgeAt = nextPurgeAt.get();
+        if (now < purgeAt || !nextPurgeAt.compareAndSet(purgeAt, now + retentionMillis)) {
+            return;
+        }
+        flights.values().removeIf(it -> it.isExpired(now));
+    }
+
+    private static class Flight {
+        private final CompletableFuture<GithubProfileResponse> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private void complete(GithubProfileResponse profile, long expiresAt) {
+            this.expiresAt = expiresAt;
+            result.complete(profile);
+        }
+
+        private void fail(Throwable e) {
+            result.completeExceptionally(e);
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        private GithubProfileResponse join(long timeoutMillis) {
+            try {
+                return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceUnavailableException();
+            } catch (TimeoutException e) {
+                throw new ServiceUnavailableException();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
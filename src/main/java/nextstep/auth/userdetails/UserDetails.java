@@ -1,9 +1,19 @@
 package nextstep.auth.userdetails;
 
+import java.util.Collections;
+import java.util.Map;
+
 public interface UserDetails {
     String getUsername();
 
     String getPassword();
 
     String getRole();
+
+    /**
+     * 토큰에 함께 실을 클레임
+     */
+    default Map<String, Object> getClaims() {
+        return Collections.emptyMap();
+    }
 }
@@ -0,0 +1,5 @@
+package nextstep.auth.userdetails;
+
+public interface UserDetailsPasswordService {
+    void updatePassword(String username, String encodedPassword);
+}
@@ -0,0 +1,76 @@
+package nextstep.common.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 블룸 필터. 없다고 답하면 확실히 없고, 있다고 답하면 오탐일 수 있다.
+ * 비트는 AtomicLongArray에 두어 잠금 없이 읽고 쓴다. 지울 수는 없으므로 비우려면 새로 만든다.
+ */
+public class BloomFilter {
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions must be positive and falsePositiveRate in (0, 1)");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray((int) ((bits + Long.SIZE - 1) / Long.SIZE));
+        this.bitSize = (long) words.length() * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            long mask = 1L << bit;
+            words.accumulateAndGet((int) (bit >>> 6), mask, (word, m) -> word | m);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitSize;
+    }
+
+    /**
+     * FNV-1a로 섞은 뒤 MurmurHash3의 fmix64로 비트를 고르게 퍼뜨린다
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
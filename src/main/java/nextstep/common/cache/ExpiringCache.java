@@ -0,0 +1,111 @@
+package nextstep.common.cache;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 항목마다 만료 시각을 가지는 크기 제한 캐시.
+ * 만료된 항목은 조회 시점에 제거되고, 가득 차면 만료 항목을 먼저 비운 뒤 일부를 임의로 내보낸다.
+ */
+public class ExpiringCache<K, V> {
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final int maxSize;
+    private final Clock clock;
+
+    public ExpiringCache(int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    public ExpiringCache(int maxSize, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(clock.millis())) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        if (expiresAtMillis <= clock.millis()) {
+            return;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            makeRoom();
+        }
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private void makeRoom() {
+        long now = clock.millis();
+        entries.entrySet().removeIf(it -> it.getValue().isExpired(now));
+        if (entries.size() < maxSize) {
+            return;
+        }
+
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            evictions.increment();
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAtMillis;
+
+        private Entry(V value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package nextstep.common.cache;
+
+/**
+ * 키가 최근에 얼마나 자주 쓰였는지 어림하는 4비트 count-min 스케치.
+ * long 하나에 카운터 16개를 담고, 증가 횟수가 표본 크기에 이르면 모든 카운터를 반으로 줄여 오래된 빈도를 잊는다.
+ * 어림값이므로 잠금 없이 갱신하고, 경합으로 잃는 증가는 무시한다.
+ */
+public class FrequencySketch {
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long HALF_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    public FrequencySketch(int expectedSize) {
+        int length = Integer.highestOneBit(Math.max(16, expectedSize) - 1) << 1;
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = 10 * Math.max(16, expectedSize);
+    }
+
+    public int frequency(int hash) {
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long mixed = mix(hash, i);
+            frequency = Math.min(frequency, (int) (table[index(mixed)] >>> shift(mixed)) & MAX_COUNT);
+        }
+        return frequency;
+    }
+
+    public void increment(int hash) {
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long mixed = mix(hash, i);
+            int index = index(mixed);
+            int shift = shift(mixed);
+            if (((table[index] >>> shift) & MAX_COUNT) != MAX_COUNT) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            halve();
+        }
+    }
+
+    private void halve() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & HALF_MASK;
+        }
+        additions = sampleSize / 2;
+    }
+
+    private static long mix(int hash, int i) {
+        long mixed = (hash + SEEDS[i]) * SEEDS[i];
+        return mixed ^ (mixed >>> 29);
+    }
+
+    private int index(long mixed) {
+        return (int) mixed & tableMask;
+    }
+
+    private static int shift(long mixed) {
+        return (int) (mixed >>> 58) << 2;
+    }
+}
@@ -0,0 +1,159 @@
+package nextstep.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 세대 번호가 붙은 크기 제한 캐시. 조회할 때 준 세대와 다른 세대에 넣은 항목은 없는 것으로 보므로,
+ * 원본이 바뀌면 세대만 올려 항목을 훑지 않고 한 번에 무효화한다.
+ * 키는 여러 구획으로 나누어 구획마다 LRU로 두고, 가득 차면 가장 오래된 항목과 새 항목의 최근 빈도를 비교해
+ * 새 항목이 더 자주 쓰였을 때만 들인다(TinyLFU 입장 정책). 한 번 스치고 마는 키가 자주 쓰는 키를 밀어내지 않는다.
+ */
+public class TinyLfuCache<K, V> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+
+    private final Segment[] segments;
+    private final FrequencySketch sketch;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public TinyLfuCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        int segmentCount = Math.max(1, Math.min(MAX_SEGMENTS, Integer.highestOneBit(maxSize / MIN_SEGMENT_CAPACITY)));
+        int segmentCapacity = Math.max(1, (maxSize + segmentCount - 1) / segmentCount);
+        this.segments = new TinyLfuCache.Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        this.sketch = new FrequencySketch(maxSize);
+    }
+
+    public V get(K key, long generation) {
+        int hash = spread(key.hashCode());
+        sketch.increment(hash);
+        V value = segmentFor(hash).get(key, generation);
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    public void put(K key, V value, long generation) {
+        int hash = spread(key.hashCode());
+        segmentFor(hash).put(key, new Entry<>(value, generation, hash));
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[(hash >>> 16) & (segments.length - 1)];
+    }
+
+    private static int spread(int hash) {
+        int spread = hash * 0x9e3779b9;
+        return spread ^ (spread >>> 16);
+    }
+
+    private class Segment {
+        private final LinkedHashMap<K, Entry<V>> entries;
+        private final int capacity;
+
+        private Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        private synchronized V get(K key, long generation) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.generation != generation) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        private synchronized void put(K key, Entry<V> entry) {
+            if (entries.size() < capacity || entries.containsKey(key)) {
+                entries.put(key, entry);
+                return;
+            }
+
+            Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            Entry<V> victim = iterator.next().getValue();
+            if (victim.generation == entry.generation && sketch.frequency(entry.hash) <= sketch.frequency(victim.hash)) {
+                rejections.increment();
+                return;
+            }
+            iterator.remove();
+            evictions.increment();
+            entries.put(key, entry);
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long generation;
+        private final int hash;
+
+        private Entry(V value, long generation, int hash) {
+            this.value = value;
+            this.generation = generation;
+            this.hash = hash;
+        }
+    }
+}
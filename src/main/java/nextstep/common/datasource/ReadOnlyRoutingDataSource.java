@@ -0,0 +1,18 @@
+package nextstep.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션의 커넥션은 복제본에서, 나머지는 원본에서 꺼낸다.
+ * 트랜잭션이 읽기 전용인지는 커넥션을 실제로 꺼낼 때 알 수 있으므로 LazyConnectionDataSourceProxy 뒤에 둔다.
+ */
+public class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+}
@@ -0,0 +1,66 @@
+package nextstep.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * spring.datasource.replica.url이 있으면 읽기 전용 트랜잭션을 복제본으로 보낸다.
+ * 계정은 spring.datasource.replica.username/password가 없으면 원본 설정을 따르고, 복제본 풀 설정은 spring.datasource.replica.hikari로 따로 준다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${spring.datasource.replica.url}") String url,
+            @Value("${spring.datasource.replica.username:}") String username,
+            @Value("${spring.datasource.replica.password:}") String password
+    ) {
+        DataSourceBuilder<HikariDataSource> builder = properties.initializeDataSourceBuilder().type(HikariDataSource.class).url(url);
+        if (!username.isEmpty()) {
+            builder.username(username).password(password);
+        }
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource
+    ) {
+        ReadOnlyRoutingDataSource routingDataSource = new ReadOnlyRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadOnlyRoutingDataSource.PRIMARY, primaryDataSource,
+                ReadOnlyRoutingDataSource.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,40 @@
+package nextstep.common.jdbc;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 켜 둔 환경에서만 애플리케이션이 쓰는 DataSource를 감싸 요청별 SQL 문 수를 응답 헤더로 노출한다.
+ * 모든 문장을 프록시로 감싸고 응답에 내부 정보를 실으므로 기본값은 꺼 두고 테스트 프로필에서만 켠다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jdbc.query-count.enabled", havingValue = "true")
+public class QueryCountConfig {
+    private static final String DATA_SOURCE = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE.equals(beanName) && bean instanceof DataSource) {
+                    return new QueryCountingDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter() {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(new QueryCountFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
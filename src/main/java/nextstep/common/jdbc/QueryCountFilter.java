@@ -0,0 +1,26 @@
+package nextstep.common.jdbc;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청마다 실행한 SQL 문 수를 세어 X-Query-Count 헤더로 돌려준다
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        QueryCountResponseWrapper wrapper = new QueryCountResponseWrapper(response);
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, wrapper);
+            wrapper.writeHeader();
+        } finally {
+            QueryCounter.stop();
+        }
+    }
+}
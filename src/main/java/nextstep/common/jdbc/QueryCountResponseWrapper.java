@@ -0,0 +1,63 @@
+package nextstep.common.jdbc;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 응답 본문을 쓰기 시작하기 직전에 그때까지 센 쿼리 수를 헤더로 단다
+ */
+class QueryCountResponseWrapper extends HttpServletResponseWrapper {
+    static final String HEADER = "X-Query-Count";
+
+    private boolean written;
+
+    QueryCountResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+
+    void writeHeader() {
+        if (!written && !isCommitted()) {
+            setIntHeader(HEADER, QueryCounter.current());
+        }
+        written = true;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        writeHeader();
+        return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        writeHeader();
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        writeHeader();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        writeHeader();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        writeHeader();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        writeHeader();
+        super.sendRedirect(location);
+    }
+}
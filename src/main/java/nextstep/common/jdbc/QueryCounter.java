@@ -0,0 +1,33 @@
+package nextstep.common.jdbc;
+
+/**
+ * 현재 스레드가 맡은 요청에서 실행한 SQL 문 수. start와 stop 사이에서만 센다.
+ */
+public final class QueryCounter {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    public static int stop() {
+        int count = current();
+        COUNT.remove();
+        return count;
+    }
+
+    public static int current() {
+        int[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package nextstep.common.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * 커넥션에서 만든 Statement의 execute 계열 호출을 QueryCounter에 센다. 배치는 한 번의 왕복으로 센다.
+ * 시퀀스 값만 꺼내는 문장은 allocationSize마다 한 번씩만 일어나 요청마다 들쭉날쭉하므로 세지 않는다.
+ * INSERT나 MERGE 안에서 시퀀스를 부르는 문장은 실제 왕복이므로 센다.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+    private static final Pattern SEQUENCE_CALL = Pattern.compile(
+            "(?i)^\\s*(?:select|call)\\s+(?:next\\s+value\\s+for\\b|nextval\\s*\\()");
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, super.getConnection(username, password));
+    }
+
+    private static <T> T wrap(Class<T> type, T target) {
+        Object proxy = Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return self == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(self);
+            }
+            if (type != Connection.class && name.startsWith("execute")) {
+                QueryCounter.increment();
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            if (type != Connection.class || isSequenceCall(name, args)) {
+                return result;
+            }
+            return wrapStatement(result);
+        });
+        return type.cast(proxy);
+    }
+
+    private static boolean isSequenceCall(String name, Object[] args) {
+        return name.startsWith("prepare") && args != null && args.length > 0 && args[0] instanceof String
+                && SEQUENCE_CALL.matcher((String) args[0]).lookingAt();
+    }
+
+    private static Object wrapStatement(Object result) {
+        if (result instanceof CallableStatement) {
+            return wrap(CallableStatement.class, (CallableStatement) result);
+        }
+        if (result instanceof PreparedStatement) {
+            return wrap(PreparedStatement.class, (PreparedStatement) result);
+        }
+        if (result instanceof Statement) {
+            return wrap(Statement.class, (Statement) result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,23 @@
+package nextstep.common.logging;
+
+import ch.qos.logback.access.servlet.TeeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 접근 로그에 본문까지 남길 때만 요청과 응답 본문을 복사해 두는 TeeFilter를 건다.
+ * 본문 복사는 요청마다 버퍼를 잡으므로 기본값은 꺼 둔다.
+ */
+@Configuration
+public class AccessLogConfig {
+    @Bean
+    @ConditionalOnProperty(name = "logging.access.body.enabled", havingValue = "true")
+    public FilterRegistrationBean<TeeFilter> teeFilter() {
+        FilterRegistrationBean<TeeFilter> registration = new FilterRegistrationBean<>(new TeeFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,18 @@
+package nextstep.common.logging;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+
+/**
+ * 접근 로그용 비동기 어펜더. 5xx 응답은 샘플링하지 않는다.
+ */
+public class AsyncAccessAppender extends AsyncRingBufferAppender<IAccessEvent> {
+    @Override
+    protected boolean isImportant(IAccessEvent event) {
+        return event.getStatusCode() >= 500;
+    }
+
+    @Override
+    protected void prepare(IAccessEvent event) {
+        event.prepareForDeferredProcessing();
+    }
+}
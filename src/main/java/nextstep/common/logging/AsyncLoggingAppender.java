@@ -0,0 +1,19 @@
+package nextstep.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * 애플리케이션 로그용 비동기 어펜더. WARN 이상은 샘플링하지 않는다.
+ */
+public class AsyncLoggingAppender extends AsyncRingBufferAppender<ILoggingEvent> {
+    @Override
+    protected boolean isImportant(ILoggingEvent event) {
+        return event.getLevel().isGreaterOrEqual(Level.WARN);
+    }
+
+    @Override
+    protected void prepare(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+    }
+}
@@ -0,0 +1,177 @@
+package nextstep.common.logging;
+
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 이벤트를 링 버퍼에 넣기만 하고 돌아가는 비동기 어펜더. 붙어 있는 어펜더에는 백그라운드 스레드 하나가 쓴다.
+ * sampleRate 비율만 남기되 중요한 이벤트는 항상 남기고, 버퍼가 가득 차면 기다리지 않고 버린 뒤 센다.
+ */
+public abstract class AsyncRingBufferAppender<E> extends UnsynchronizedAppenderBase<E> implements AppenderAttachable<E> {
+    private static final LongAdder TOTAL_DROPPED = new LongAdder();
+    private static final LongAdder TOTAL_SAMPLED_OUT = new LongAdder();
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long STOP_TIMEOUT_MILLIS = 1000;
+
+    private final AppenderAttachableImpl<E> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private int bufferSize = 1024;
+    private double sampleRate = 1.0;
+    private RingBuffer<E> buffer;
+    private Thread writer;
+    private volatile boolean idle;
+
+    public static long getTotalDroppedCount() {
+        return TOTAL_DROPPED.sum();
+    }
+
+    public static long getTotalSampledOutCount() {
+        return TOTAL_SAMPLED_OUT.sum();
+    }
+
+    /**
+     * 샘플링과 상관없이 항상 남길 이벤트인지
+     */
+    protected abstract boolean isImportant(E event);
+
+    /**
+     * 요청 스레드를 떠나기 전에 나중에 필요한 값을 이벤트에 복사해 둔다
+     */
+    protected abstract void prepare(E event);
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (sampleRate < 0 || sampleRate > 1) {
+            addError("sampleRate must be in [0, 1]: " + sampleRate);
+            return;
+        }
+        try {
+            buffer = new RingBuffer<>(bufferSize);
+        } catch (IllegalArgumentException e) {
+            addError(e.getMessage());
+            return;
+        }
+        super.start();
+        writer = new Thread(this::drain, "async-log-" + getName());
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        LockSupport.unpark(writer);
+        try {
+            writer.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(E event) {
+        if (!isImportant(event) && sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            sampledOut.increment();
+            TOTAL_SAMPLED_OUT.increment();
+            return;
+        }
+        prepare(event);
+        if (!buffer.offer(event)) {
+            dropped.increment();
+            TOTAL_DROPPED.increment();
+            return;
+        }
+        if (idle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            E event = buffer.poll();
+            if (event != null) {
+                appenders.appendLoopOnAppenders(event);
+                continue;
+            }
+            if (!isStarted()) {
+                return;
+            }
+            idle = true;
+            event = buffer.poll();
+            if (event == null) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            idle = false;
+            if (event != null) {
+                appenders.appendLoopOnAppenders(event);
+            }
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void addAppender(Appender<E> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<E>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<E> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<E> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<E> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
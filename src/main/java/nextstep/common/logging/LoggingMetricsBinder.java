@@ -0,0 +1,15 @@
+package nextstep.common.logging;
+
+import nextstep.common.metrics.MetricsRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 로그 어펜더가 버리거나 샘플링으로 거른 이벤트 수를 지표로 노출한다
+ */
+@Component
+public class LoggingMetricsBinder {
+    public LoggingMetricsBinder(MetricsRegistry metricsRegistry) {
+        metricsRegistry.functionCounter("logging_events_dropped_total", "Log events dropped because the ring buffer was full", AsyncRingBufferAppender::getTotalDroppedCount);
+        metricsRegistry.functionCounter("logging_events_sampled_out_total", "Log events skipped by sampling", AsyncRingBufferAppender::getTotalSampledOutCount);
+    }
+}
@@ -0,0 +1,28 @@
+package nextstep.common.logging;
+
+import ch.qos.logback.access.pattern.AccessConverter;
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.CoreConstants;
+
+import java.util.Map;
+
+/**
+ * %fullRequest와 같은 형식이되 비밀 값을 가린다. 백그라운드 스레드에서 불리므로 복사해 둔 헤더만 읽는다.
+ */
+public class RedactedFullRequestConverter extends AccessConverter {
+    @Override
+    public String convert(IAccessEvent event) {
+        StringBuilder builder = new StringBuilder(256)
+                .append(event.getRequestURL())
+                .append(CoreConstants.LINE_SEPARATOR);
+        for (Map.Entry<String, String> header : event.getRequestHeaderMap().entrySet()) {
+            builder.append(header.getKey())
+                    .append(": ")
+                    .append(Redactor.redactHeader(header.getKey(), header.getValue()))
+                    .append(CoreConstants.LINE_SEPARATOR);
+        }
+        return builder.append(CoreConstants.LINE_SEPARATOR)
+                .append(Redactor.redactBody(event.getRequestHeader("Content-Type"), event.getRequestContent()))
+                .toString();
+    }
+}
@@ -0,0 +1,30 @@
+package nextstep.common.logging;
+
+import ch.qos.logback.access.pattern.AccessConverter;
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.CoreConstants;
+
+import java.util.Map;
+
+/**
+ * %fullResponse와 같은 형식이되 비밀 값을 가린다
+ */
+public class RedactedFullResponseConverter extends AccessConverter {
+    @Override
+    public String convert(IAccessEvent event) {
+        StringBuilder builder = new StringBuilder(256)
+                .append(event.getProtocol())
+                .append(' ')
+                .append(event.getStatusCode())
+                .append(CoreConstants.LINE_SEPARATOR);
+        for (Map.Entry<String, String> header : event.getResponseHeaderMap().entrySet()) {
+            builder.append(header.getKey())
+                    .append(": ")
+                    .append(Redactor.redactHeader(header.getKey(), header.getValue()))
+                    .append(CoreConstants.LINE_SEPARATOR);
+        }
+        return builder.append(CoreConstants.LINE_SEPARATOR)
+                .append(Redactor.redactBody(event.getResponseHeader("Content-Type"), event.getResponseContent()))
+                .toString();
+    }
+}
@@ -0,0 +1,51 @@
+package nextstep.common.logging;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * 로그에 남기면 안 되는 비밀번호, 토큰, 인가 코드를 가린다
+ */
+public final class Redactor {
+    static final String MASK = "****";
+
+    private static final Pattern JSON_SECRET = Pattern.compile(
+            "(\"(?:password|accessToken|refreshToken|access_token|code)\"\\s*:\\s*)\"(?:[^\"\\\\]|\\\\.)*\"");
+    private static final Set<String> SECRET_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        SECRET_HEADERS.add("Authorization");
+        SECRET_HEADERS.add("Cookie");
+        SECRET_HEADERS.add("Set-Cookie");
+    }
+
+    private Redactor() {
+    }
+
+    /**
+     * JSON 본문만 비밀 값을 가려 남긴다. CSV나 폼처럼 어떤 필드가 비밀인지 알 수 없는 본문은 길이만 남긴다.
+     */
+    public static String redactBody(String contentType, String body) {
+        if (body == null || body.isEmpty()) {
+            return body;
+        }
+        if (!isJson(contentType)) {
+            return "[" + body.length() + " chars of " + contentType + " omitted]";
+        }
+        return JSON_SECRET.matcher(body).replaceAll("$1\"" + MASK + "\"");
+    }
+
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String mediaType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        return mediaType.equals("application/json") || mediaType.endsWith("+json");
+    }
+
+    public static String redactHeader(String name, String value) {
+        return SECRET_HEADERS.contains(name) ? MASK : value;
+    }
+}
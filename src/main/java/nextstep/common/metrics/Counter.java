@@ -0,0 +1,27 @@
+package nextstep.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단조 증가 카운터. 여러 스레드가 동시에 올려도 서로 기다리지 않도록 LongAdder로 센다.
+ */
+public class Counter implements Metric {
+    private final LongAdder count = new LongAdder();
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public void writeTo(StringBuilder out, String name, String labels) {
+        MetricFormat.sample(out, name, labels, getCount());
+    }
+}
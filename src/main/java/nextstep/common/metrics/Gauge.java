@@ -0,0 +1,19 @@
+package nextstep.common.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * 읽는 시점에 값을 구하는 게이지. 이미 통계를 가진 컴포넌트의 getter를 그대로 노출할 때 쓴다.
+ */
+class Gauge implements Metric {
+    private final DoubleSupplier value;
+
+    Gauge(DoubleSupplier value) {
+        this.value = value;
+    }
+
+    @Override
+    public void writeTo(StringBuilder out, String name, String labels) {
+        MetricFormat.sample(out, name, labels, value.getAsDouble());
+    }
+}
@@ -0,0 +1,5 @@
+package nextstep.common.metrics;
+
+interface Metric {
+    void writeTo(StringBuilder out, String name, String labels);
+}
@@ -0,0 +1,60 @@
+package nextstep.common.metrics;
+
+/**
+ * Prometheus 텍스트 형식(0.0.4) 출력 도우미
+ */
+class MetricFormat {
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private MetricFormat() {
+    }
+
+    static String labels(String... keyValues) {
+        if (keyValues.length % 2 != 0) {
+            throw new IllegalArgumentException("labels must be key-value pairs");
+        }
+        String labels = "";
+        for (int i = 0; i < keyValues.length; i += 2) {
+            labels = appendLabel(labels, keyValues[i], keyValues[i + 1]);
+        }
+        return labels;
+    }
+
+    static String appendLabel(String labels, String key, String value) {
+        String label = key + "=\"" + escape(value) + "\"";
+        return labels.isEmpty() ? label : labels + "," + label;
+    }
+
+    static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    static void sample(StringBuilder out, String name, String labels, long value) {
+        name(out, name, labels).append(value).append('\n');
+    }
+
+    static void sample(StringBuilder out, String name, String labels, double value) {
+        name(out, name, labels);
+        if (Double.isNaN(value)) {
+            out.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            out.append(value > 0 ? "+Inf" : "-Inf");
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static StringBuilder name(StringBuilder out, String name, String labels) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        return out.append(' ');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,53 @@
+package nextstep.common.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 내부망 수집기용 지표 엔드포인트. 로그인 실패 수나 캐시 크기처럼 밖에 보이면 안 되는 값이 있어 기본값은 꺼 둔다.
+ * metrics.endpoint.token을 주면 Authorization: Bearer 헤더로 그 토큰을 보낸 요청에만 답한다.
+ */
+@RestController
+@ConditionalOnProperty(name = "metrics.endpoint.enabled", havingValue = "true")
+public class MetricsController {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private MetricsRegistry metricsRegistry;
+    private byte[] token;
+
+    public MetricsController(MetricsRegistry metricsRegistry, @Value("${metrics.endpoint.token:}") String token) {
+        this.metricsRegistry = metricsRegistry;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @GetMapping("/internal/metrics")
+    public ResponseEntity<String> scrape(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (!isAuthorized(authorization)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, MetricFormat.CONTENT_TYPE)
+                .body(metricsRegistry.scrape());
+    }
+
+    private boolean isAuthorized(String authorization) {
+        if (token.length == 0) {
+            return true;
+        }
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        return MessageDigest.isEqual(token, authorization.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8));
+    }
+}
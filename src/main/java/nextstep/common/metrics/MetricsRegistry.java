@@ -0,0 +1,72 @@
+package nextstep.common.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 프로세스 안의 지표 저장소.
+ * 같은 이름과 라벨로 다시 요청하면 같은 지표를 돌려주므로, 호출하는 쪽은 생성 시점에 한 번 받아 필드에 두고 쓴다.
+ */
+@Component
+public class MetricsRegistry {
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+    public Counter counter(String name, String help, String... labels) {
+        return register(name, help, "counter", labels, Counter::new);
+    }
+
+    public LatencyHistogram histogram(String name, String help, String... labels) {
+        return register(name, help, "summary", labels, LatencyHistogram::new);
+    }
+
+    public void gauge(String name, String help, DoubleSupplier value, String... labels) {
+        register(name, help, "gauge", labels, () -> new Gauge(value));
+    }
+
+    /**
+     * 이미 다른 곳에서 세고 있는 누적값을 카운터로 노출한다
+     */
+    public void functionCounter(String name, String help, DoubleSupplier value, String... labels) {
+        register(name, help, "counter", labels, () -> new Gauge(value));
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Family family : families.values()) {
+            family.writeTo(out);
+        }
+        return out.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Metric> T register(String name, String help, String type, String[] labels, Supplier<T> factory) {
+        Family family = families.computeIfAbsent(name, key -> new Family(name, help, type));
+        if (!family.type.equals(type)) {
+            throw new IllegalArgumentException(name + " is already registered as " + family.type);
+        }
+        return (T) family.metrics.computeIfAbsent(MetricFormat.labels(labels), key -> factory.get());
+    }
+
+    private static class Family {
+        private final String name;
+        private final String help;
+        private final String type;
+        private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+
+        Family(String name, String help, String type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+
+        void writeTo(StringBuilder out) {
+            MetricFormat.header(out, name, help, type);
+            metrics.forEach((labels, metric) -> metric.writeTo(out, name, labels));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package nextstep.common.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모든 Spring Data 리포지토리 프록시에 메서드별 지연 시간 기록을 끼워 넣는다.
+ * 리포지토리 코드는 그대로 두고, 리포지토리 팩토리가 프록시를 만들 때 인터셉터를 더한다.
+ */
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+    private static final String METRIC_NAME = "repository_query_seconds";
+
+    private MetricsRegistry metricsRegistry;
+
+    public RepositoryMetricsPostProcessor(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport) {
+            ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(factory ->
+                    factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                            proxyFactory.addAdvice(new TimingInterceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private class TimingInterceptor implements MethodInterceptor {
+        private final String repository;
+        private final Map<Method, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+        TimingInterceptor(String repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            LatencyHistogram histogram = histograms.computeIfAbsent(invocation.getMethod(), method ->
+                    metricsRegistry.histogram(METRIC_NAME, "Spring Data repository method latency",
+                            "repository", repository, "method", method.getName()));
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                histogram.recordSince(start);
+            }
+        }
+    }
+}
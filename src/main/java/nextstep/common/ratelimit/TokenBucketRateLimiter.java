@@ -0,0 +1,105 @@
+package nextstep.common.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 키마다 토큰 버킷을 두는 속도 제한기. capacity개까지 몰아서 쓸 수 있고 분당 refillPerMinute개씩 다시 찬다.
+ * 버킷은 토큰 수 대신 "버킷이 가득 차는 시각" 하나만 AtomicLong에 두어 CAS 한 번으로 꺼낸다.
+ * 가득 찬 버킷은 지워도 동작이 같으므로 주기적으로, 또는 키가 너무 많아지면 지운다.
+ */
+public class TokenBucketRateLimiter {
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextPurgeAt;
+
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys) {
+        this(capacity, refillPerMinute, maxKeys, System::nanoTime);
+    }
+
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys, LongSupplier nanoClock) {
+        if (capacity <= 0 || refillPerMinute <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("capacity, refillPerMinute and maxKeys must be positive");
+        }
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        this.burstNanos = intervalNanos * capacity;
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+        this.nextPurgeAt = new AtomicLong(nanoClock.getAsLong() + PURGE_INTERVAL_NANOS);
+    }
+
+    /**
+     * 토큰을 하나 꺼낸다. 남은 토큰이 없으면 다음 토큰이 차기까지 남은 나노초를, 꺼냈으면 0을 돌려준다.
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        purgeIfDue(now);
+        Bucket bucket = buckets.computeIfAbsent(key, it -> new Bucket(now));
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, now) + intervalNanos;
+            long waitNanos = next - now - burstNanos;
+            if (waitNanos > 0) {
+                rejections.increment();
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public void reset() {
+        buckets.clear();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private void purgeIfDue(long now) {
+        long purgeAt = nextPurgeAt.get();
+        boolean due = now - purgeAt >= 0 || buckets.size() >= maxKeys;
+        if (!due || !nextPurgeAt.compareAndSet(purgeAt, now + PURGE_INTERVAL_NANOS)) {
+            return;
+        }
+
+        buckets.values().removeIf(it -> it.get() - now <= 0);
+        int target = maxKeys - Math.max(1, maxKeys / 10);
+        Iterator<Bucket> iterator = buckets.values().iterator();
+        while (buckets.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * 버킷이 가득 차는 시각(nanoTime 기준)
+     */
+    private static class Bucket extends AtomicLong {
+        private Bucket(long fullAt) {
+            super(fullAt);
+        }
+    }
+}
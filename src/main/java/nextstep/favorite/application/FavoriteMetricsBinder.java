@@ -0,0 +1,16 @@
+package nextstep.favorite.application;
+
+import nextstep.common.metrics.MetricsRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 즐겨찾기 경로 계산 풀의 통계를 지표로 노출한다
+ */
+@Component
+public class FavoriteMetricsBinder {
+    public FavoriteMetricsBinder(MetricsRegistry metricsRegistry, FavoritePathEnricher favoritePathEnricher) {
+        metricsRegistry.functionCounter("favorite_path_timeouts_total", "Favorite paths not found before the listing deadline", favoritePathEnricher::getTimeoutCount);
+        metricsRegistry.functionCounter("favorite_path_rejections_total", "Favorite paths not computed because the pool queue was full", favoritePathEnricher::getRejectionCount);
+        metricsRegistry.gauge("favorite_path_queue_size", "Favorite path lookups waiting for a pool thread", favoritePathEnricher::getQueueSize);
+    }
+}
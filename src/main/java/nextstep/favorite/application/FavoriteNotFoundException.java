@@ -0,0 +1,11 @@
+package nextstep.favorite.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 없는 즐겨찾기와 다른 회원의 즐겨찾기를 구분하지 않는다
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class FavoriteNotFoundException extends RuntimeException {
+}
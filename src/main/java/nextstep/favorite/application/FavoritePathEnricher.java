@@ -0,0 +1,124 @@
+package nextstep.favorite.application;
+
+import nextstep.favorite.application.dto.FavoriteResponse;
+import nextstep.subway.application.PathService;
+import nextstep.subway.application.dto.PathResponse;
+import nextstep.subway.domain.PathType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 즐겨찾기 목록의 최단 경로를 전용 풀에서 동시에 찾는다.
+ * 요청마다 하나의 마감 시각을 두고, 그때까지 찾지 못했거나 풀이 가득 차 맡기지 못한 즐겨찾기는 경로 없이 돌려준다.
+ */
+@Component
+public class FavoritePathEnricher {
+    private PathService pathService;
+    private ThreadPoolExecutor executor;
+    private long timeoutMillis;
+
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public FavoritePathEnricher(
+            PathService pathService,
+            @Value("${favorite.path.threads}") int threads,
+            @Value("${favorite.path.queue-capacity}") int queueCapacity,
+            @Value("${favorite.path.timeout}") long timeoutMillis
+    ) {
+        this.pathService = pathService;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new EnricherThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public List<FavoriteResponse> enrich(List<FavoriteResponse> favorites) {
+        long deadline = nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<Future<PathResponse>> paths = new ArrayList<>(favorites.size());
+        for (FavoriteResponse favorite : favorites) {
+            paths.add(submit(favorite));
+        }
+
+        List<FavoriteResponse> enriched = new ArrayList<>(favorites.size());
+        for (int i = 0; i < favorites.size(); i++) {
+            enriched.add(favorites.get(i).withPath(await(paths.get(i), deadline)));
+        }
+        return enriched;
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    private Future<PathResponse> submit(FavoriteResponse favorite) {
+        Long source = favorite.getSource().getId();
+        Long target = favorite.getTarget().getId();
+        try {
+            return executor.submit(() -> pathService.findPath(source, target, PathType.DISTANCE));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            return null;
+        }
+    }
+
+    private PathResponse await(Future<PathResponse> path, long deadline) {
+        if (path == null) {
+            return null;
+        }
+        try {
+            return path.get(deadline - nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            path.cancel(true);
+            timeouts.increment();
+            return null;
+        } catch (InterruptedException e) {
+            path.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private static class EnricherThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "favorite-path-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package nextstep.favorite.application;
+
+import nextstep.auth.AuthenticationException;
+import nextstep.favorite.application.dto.FavoriteRequest;
+import nextstep.favorite.application.dto.FavoriteResponse;
+import nextstep.favorite.domain.Favorite;
+import nextstep.favorite.domain.FavoriteRepository;
+import nextstep.member.application.MemberDeletedEvent;
+import nextstep.subway.application.PathService;
+import nextstep.subway.application.dto.PathResponse;
+import nextstep.subway.domain.PathType;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 목록은 역까지 한 번에 읽고, 삭제는 소유자 조건을 건 한 번의 삭제로 확인과 삭제를 같이 한다
+ */
+@Service
+@Transactional(readOnly = true)
+public class FavoriteService {
+    private FavoriteRepository favoriteRepository;
+    private StationRepository stationRepository;
+    private PathService pathService;
+    private FavoritePathEnricher favoritePathEnricher;
+
+    public FavoriteService(
+            FavoriteRepository favoriteRepository,
+            StationRepository stationRepository,
+            PathService pathService,
+            FavoritePathEnricher favoritePathEnricher
+    ) {
+        this.favoriteRepository = favoriteRepository;
+        this.stationRepository = stationRepository;
+        this.pathService = pathService;
+        this.favoritePathEnricher = favoritePathEnricher;
+    }
+
+    @Transactional
+    public FavoriteResponse createFavorite(Long memberId, FavoriteRequest request) {
+        PathResponse path = pathService.findPath(request.getSource(), request.getTarget(), PathType.DISTANCE);
+
+        Map<Long, Station> stations = stationRepository.findAllById(List.of(request.getSource(), request.getTarget())).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        Favorite favorite;
+        try {
+            favorite = favoriteRepository.save(new Favorite(memberId, findStation(stations, request.getSource()), findStation(stations, request.getTarget())));
+        } catch (DataIntegrityViolationException e) {
+            // 토큰을 발급한 뒤 다른 인스턴스에서 회원이 삭제되었다
+            throw new AuthenticationException();
+        }
+        return FavoriteResponse.of(favorite).withPath(path);
+    }
+
+    /**
+     * 경로를 기다리는 동안 커넥션을 붙잡지 않도록 트랜잭션은 목록 조회에만 쓴다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<FavoriteResponse> findFavorites(Long memberId) {
+        List<FavoriteResponse> favorites = favoriteRepository.findAllByMemberIdWithStations(memberId).stream()
+                .map(FavoriteResponse::of)
+                .collect(Collectors.toList());
+        return favoritePathEnricher.enrich(favorites);
+    }
+
+    @Transactional
+    public void deleteFavorite(Long memberId, Long id) {
+        if (favoriteRepository.deleteByIdAndMemberId(id, memberId) == 0) {
+            throw new FavoriteNotFoundException();
+        }
+    }
+
+    /**
+     * 회원 행보다 먼저 지워야 외래 키에 걸리지 않는다
+     */
+    @EventListener
+    @Transactional
+    public void onMemberDeleted(MemberDeletedEvent event) {
+        favoriteRepository.deleteByMemberId(event.getMemberId());
+    }
+
+    private static Station findStation(Map<Long, Station> stations, Long id) {
+        Station station = stations.get(id);
+        if (station == null) {
+            throw new IllegalArgumentException("없는 역입니다: " + id);
+        }
+        return station;
+    }
+}
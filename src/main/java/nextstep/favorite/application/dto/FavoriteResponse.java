@@ -0,0 +1,53 @@
+package nextstep.favorite.application.dto;
+
+import nextstep.favorite.domain.Favorite;
+import nextstep.subway.application.dto.PathResponse;
+import nextstep.subway.application.dto.StationResponse;
+
+public class FavoriteResponse {
+    private Long id;
+    private StationResponse source;
+    private StationResponse target;
+    private PathResponse path;
+
+    public FavoriteResponse() {
+    }
+
+    public FavoriteResponse(Long id, StationResponse source, StationResponse target) {
+        this.id = id;
+        this.source = source;
+        this.target = target;
+    }
+
+    public FavoriteResponse(Long id, StationResponse source, StationResponse target, PathResponse path) {
+        this(id, source, target);
+        this.path = path;
+    }
+
+    public static FavoriteResponse of(Favorite favorite) {
+        return new FavoriteResponse(favorite.getId(), StationResponse.of(favorite.getSource()), StationResponse.of(favorite.getTarget()));
+    }
+
+    public FavoriteResponse withPath(PathResponse path) {
+        return new FavoriteResponse(id, source, target, path);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public StationResponse getSource() {
+        return source;
+    }
+
+    public StationResponse getTarget() {
+        return target;
+    }
+
+    /**
+     * 마감 시각 안에 찾지 못했거나 지금은 이어지지 않는 즐겨찾기면 비어 있다
+     */
+    public PathResponse getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,57 @@
+package nextstep.favorite.domain;
+
+import nextstep.member.domain.Member;
+import nextstep.subway.domain.Station;
+
+import javax.persistence.*;
+
+/**
+ * 회원은 id로만 들고 있어 소유자 확인에 회원을 읽지 않아도 된다.
+ * member는 member_id에 외래 키를 걸기 위한 읽기 전용 연관이라 읽지도 쓰지도 않는다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_favorite_member_id", columnList = "member_id"))
+public class Favorite {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", insertable = false, updatable = false, foreignKey = @ForeignKey(name = "fk_favorite_member"))
+    private Member member;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "source_station_id")
+    private Station source;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "target_station_id")
+    private Station target;
+
+    public Favorite() {
+    }
+
+    public Favorite(Long memberId, Station source, Station target) {
+        if (source.equals(target)) {
+            throw new IllegalArgumentException("출발역과 도착역은 같을 수 없습니다");
+        }
+        this.memberId = memberId;
+        this.source = source;
+        this.target = target;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public Station getSource() {
+        return source;
+    }
+
+    public Station getTarget() {
+        return target;
+    }
+}
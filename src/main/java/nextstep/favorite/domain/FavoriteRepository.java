@@ -0,0 +1,21 @@
+package nextstep.favorite.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
+    @Query("select f from Favorite f join fetch f.source join fetch f.target where f.memberId = :memberId order by f.id")
+    List<Favorite> findAllByMemberIdWithStations(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from Favorite f where f.id = :id and f.memberId = :memberId")
+    int deleteByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from Favorite f where f.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+}
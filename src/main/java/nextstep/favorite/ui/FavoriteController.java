@@ -0,0 +1,46 @@
+package nextstep.favorite.ui;
+
+import nextstep.auth.principal.AuthenticationPrincipal;
+import nextstep.auth.principal.UserPrincipal;
+import nextstep.favorite.application.FavoriteService;
+import nextstep.favorite.application.dto.FavoriteRequest;
+import nextstep.favorite.application.dto.FavoriteResponse;
+import nextstep.member.application.MemberService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+public class FavoriteController {
+    private FavoriteService favoriteService;
+    private MemberService memberService;
+
+    public FavoriteController(FavoriteService favoriteService, MemberService memberService) {
+        this.favoriteService = favoriteService;
+        this.memberService = memberService;
+    }
+
+    @PostMapping("/favorites")
+    public ResponseEntity<FavoriteResponse> createFavorite(@AuthenticationPrincipal UserPrincipal principal, @RequestBody FavoriteRequest request) {
+        FavoriteResponse favorite = favoriteService.createFavorite(memberService.findMemberIdOfMine(principal), request);
+        return ResponseEntity.created(URI.create("/favorites/" + favorite.getId())).body(favorite);
+    }
+
+    @GetMapping("/favorites")
+    public ResponseEntity<List<FavoriteResponse>> findFavorites(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(favoriteService.findFavorites(memberService.findMemberIdOfMine(principal)));
+    }
+
+    @DeleteMapping("/favorites/{id}")
+    public ResponseEntity<Void> deleteFavorite(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long id) {
+        favoriteService.deleteFavorite(memberService.findMemberIdOfMine(principal), id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleIllegalArgument() {
+        return ResponseEntity.badRequest().build();
+    }
+}
@@ -6,21 +6,35 @@ import nextstep.auth.token.oauth2.OAuth2UserService;
 import nextstep.member.domain.CustomOAuth2User;
 import nextstep.member.domain.Member;
 import nextstep.member.domain.MemberRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 조회, 삽입, 다시 읽기를 한 읽기-쓰기 트랜잭션으로 묶어 복제 지연이 있는 읽기 전용 DB를 거치지 않게 한다.
+ * 다른 요청이 같은 이메일을 먼저 삽입해 실패하면 그 트랜잭션은 되돌리고 새 트랜잭션에서 한 번 더 찾는다.
+ */
 @Service
 public class CustomOAuth2UserService implements OAuth2UserService {
     private MemberRepository memberRepository;
+    private TransactionTemplate transactionTemplate;
 
-    public CustomOAuth2UserService(MemberRepository memberRepository) {
+    public CustomOAuth2UserService(MemberRepository memberRepository, PlatformTransactionManager transactionManager) {
         this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest oAuth2UserRequest) {
-        Member member = memberRepository.findByEmail(oAuth2UserRequest.getUsername())
-                .orElseGet(() -> memberRepository.save(new Member(oAuth2UserRequest.getUsername(), "", oAuth2UserRequest.getAge())));
+        Member candidate = new Member(oAuth2UserRequest.getUsername(), "", oAuth2UserRequest.getAge());
+        Member member;
+        try {
+            member = transactionTemplate.execute(status -> memberRepository.findOrCreate(candidate));
+        } catch (DataIntegrityViolationException e) {
+            member = transactionTemplate.execute(status -> memberRepository.findOrCreate(candidate));
+        }
 
-        return new CustomOAuth2User(member.getEmail(), member.getRole());
+        return CustomOAuth2User.of(member);
     }
-}
\ No newline at end of file
+}
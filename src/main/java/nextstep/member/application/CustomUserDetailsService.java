@@ -2,6 +2,7 @@ package nextstep.member.application;
 
 import nextstep.auth.AuthenticationException;
 import nextstep.auth.userdetails.UserDetails;
+import nextstep.auth.userdetails.UserDetailsPasswordService;
 import nextstep.auth.userdetails.UserDetailsService;
 import nextstep.member.domain.CustomUserDetails;
 import nextstep.member.domain.Member;
@@ -9,16 +10,28 @@ import nextstep.member.domain.MemberRepository;
 import org.springframework.stereotype.Service;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private MemberRepository memberRepository;
+    private UserDetailsCache userDetailsCache;
 
-    public CustomUserDetailsService(MemberRepository memberRepository) {
+    public CustomUserDetailsService(MemberRepository memberRepository, UserDetailsCache userDetailsCache) {
         this.memberRepository = memberRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) {
+        return userDetailsCache.get(username, this::load);
+    }
+
+    @Override
+    public void updatePassword(String username, String encodedPassword) {
+        memberRepository.updatePassword(username, encodedPassword);
+        userDetailsCache.invalidate(username);
+    }
+
+    private UserDetails load(String username) {
         Member member = memberRepository.findByEmail(username).orElseThrow(AuthenticationException::new);
-        return new CustomUserDetails(member.getEmail(), member.getPassword(), member.getRole());
+        return CustomUserDetails.of(member);
     }
 }
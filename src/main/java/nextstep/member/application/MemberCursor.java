@@ -0,0 +1,38 @@
+package nextstep.member.application;
+
+import nextstep.member.domain.Member;
+import nextstep.member.domain.MemberSortKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 다음 페이지 커서. 정렬 키와 마지막으로 내려간 값을 base64url로 감싼다.
+ */
+public class MemberCursor {
+    private static final String SEPARATOR = ":";
+
+    private MemberCursor() {
+    }
+
+    public static String encode(MemberSortKey sortKey, Member last) {
+        String value = sortKey == MemberSortKey.ID ? String.valueOf(last.getId()) : last.getEmail();
+        String raw = sortKey.getProperty() + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Object decode(MemberSortKey sortKey, String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String prefix = sortKey.getProperty() + SEPARATOR;
+        if (!raw.startsWith(prefix)) {
+            throw new IllegalArgumentException("cursor does not match sort: " + sortKey.getProperty());
+        }
+
+        String value = raw.substring(prefix.length());
+        return sortKey == MemberSortKey.ID ? Long.valueOf(value) : value;
+    }
+}
@@ -0,0 +1,16 @@
+package nextstep.member.application;
+
+/**
+ * 회원을 지우기 직전에 같은 트랜잭션 안에서 알린다. 회원에 딸린 데이터는 이 이벤트를 받아 먼저 지운다.
+ */
+public class MemberDeletedEvent {
+    private final Long memberId;
+
+    public MemberDeletedEvent(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+}
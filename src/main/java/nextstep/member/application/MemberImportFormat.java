@@ -0,0 +1,55 @@
+package nextstep.member.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.member.application.dto.MemberRequest;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+public enum MemberImportFormat {
+    NDJSON("application/x-ndjson") {
+        @Override
+        MemberRequest parse(String line, ObjectMapper objectMapper) throws IOException {
+            return objectMapper.readValue(line, MemberRequest.class);
+        }
+
+        @Override
+        boolean isHeader(String line) {
+            return false;
+        }
+    },
+    CSV("text/csv") {
+        @Override
+        MemberRequest parse(String line, ObjectMapper objectMapper) {
+            String[] columns = line.split(",", -1);
+            if (columns.length != 3) {
+                throw new IllegalArgumentException("expected email,password,age");
+            }
+            return new MemberRequest(columns[0].trim(), columns[1].trim(), Integer.valueOf(columns[2].trim()));
+        }
+
+        @Override
+        boolean isHeader(String line) {
+            return line.replace(" ", "").equalsIgnoreCase("email,password,age");
+        }
+    };
+
+    private final MediaType mediaType;
+
+    MemberImportFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public static MemberImportFormat of(String contentType) {
+        MediaType requested = MediaType.parseMediaType(contentType);
+        return Arrays.stream(values())
+                .filter(it -> it.mediaType.isCompatibleWith(requested))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("unsupported import format: " + contentType));
+    }
+
+    abstract MemberRequest parse(String line, ObjectMapper objectMapper) throws IOException;
+
+    abstract boolean isHeader(String line);
+}
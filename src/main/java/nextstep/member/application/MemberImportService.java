@@ -0,0 +1,211 @@
+package nextstep.member.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.auth.password.PasswordVerifier;
+import nextstep.member.application.dto.MemberImportResult;
+import nextstep.member.application.dto.MemberRequest;
+import nextstep.member.domain.Member;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 회원을 한 줄씩 읽어 batch-size 단위로 한 트랜잭션에 저장한다.
+ * 평문 비밀번호는 묶음마다 모아 일괄 해시 풀에서 동시에 계산한 뒤 저장한다.
+ * 입력 전체를 메모리에 올리지 않고, 묶음마다 flush/clear 하므로 Hibernate가 INSERT를 JDBC 배치로 보낸다.
+ * 묶음 저장이 실패하면 그 묶음만 한 줄씩 다시 저장해 실패한 행을 가려낸다.
+ * 제약 조건 위반만 행의 실패로 돌려주고, 연결 실패나 잠금 시간 초과처럼 행과 상관없는 실패는 가져오기를 멈추고 그대로 던진다.
+ */
+@Service
+public class MemberImportService {
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private PasswordVerifier passwordVerifier;
+    private ObjectMapper objectMapper;
+    private int batchSize;
+
+    public MemberImportService(
+            PlatformTransactionManager transactionManager,
+            PasswordVerifier passwordVerifier,
+            ObjectMapper objectMapper,
+            @Value("${member.import.batch-size}") int batchSize
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordVerifier = passwordVerifier;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public void importMembers(InputStream input, MemberImportFormat format, Consumer<MemberImportResult> results) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<ImportRow> chunk = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && format.isHeader(line))) {
+                continue;
+            }
+
+            chunk.add(parse(lineNumber, line, format));
+            if (chunk.size() == batchSize) {
+                encodePasswords(chunk);
+                save(chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            encodePasswords(chunk);
+            save(chunk, results);
+        }
+    }
+
+    private ImportRow parse(long lineNumber, String line, MemberImportFormat format) {
+        MemberRequest request;
+        try {
+            request = format.parse(line, objectMapper);
+        } catch (IOException | IllegalArgumentException e) {
+            return ImportRow.failed(lineNumber, null, "malformed row");
+        }
+
+        if (isBlank(request.getEmail()) || isBlank(request.getPassword()) || request.getAge() == null || request.getAge() < 0) {
+            return ImportRow.failed(lineNumber, request.getEmail(), "email, password and age are required");
+        }
+        return ImportRow.valid(lineNumber, request.toMember(request.getPassword()));
+    }
+
+    private void encodePasswords(List<ImportRow> chunk) {
+        List<ImportRow> plain = chunk.stream()
+                .filter(it -> it.isValid() && passwordVerifier.needsUpgrade(it.password))
+                .collect(Collectors.toList());
+        List<String> encoded = passwordVerifier.encodeAllInBulk(plain.stream()
+                .map(it -> it.password)
+                .collect(Collectors.toList()));
+        for (int i = 0; i < plain.size(); i++) {
+            plain.get(i).password = encoded.get(i);
+        }
+    }
+
+    private void save(List<ImportRow> chunk, Consumer<MemberImportResult> results) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                chunk.stream()
+                        .filter(ImportRow::isValid)
+                        .forEach(it -> entityManager.persist(it.newMember()));
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (DataAccessException | PersistenceException | TransactionException e) {
+            chunk.forEach(this::saveOne);
+        }
+        chunk.forEach(it -> results.accept(it.toResult()));
+    }
+
+    private void saveOne(ImportRow row) {
+        if (!row.isValid()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.persist(row.newMember());
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (DataAccessException | PersistenceException | TransactionException e) {
+            String constraint = violatedConstraint(e);
+            if (constraint == null) {
+                throw e;
+            }
+            row.fail(constraint.toLowerCase(Locale.ROOT).contains(Member.EMAIL_UNIQUE_CONSTRAINT) ? "duplicate email" : "constraint violation");
+        }
+    }
+
+    /**
+     * 원인 중에 제약 조건 위반이 있으면 제약 이름(모르면 메시지)을, 없으면 null을 돌려준다
+     */
+    private static String violatedConstraint(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                String name = ((ConstraintViolationException) cause).getConstraintName();
+                return name != null ? name : String.valueOf(cause.getMessage());
+            }
+            if (cause instanceof SQLException && ((SQLException) cause).getSQLState() != null
+                    && ((SQLException) cause).getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION)) {
+                return String.valueOf(cause.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static class ImportRow {
+        private final long line;
+        private final String email;
+        private final Member source;
+        private String password;
+        private Member saved;
+        private String error;
+
+        private ImportRow(long line, String email, Member source, String error) {
+            this.line = line;
+            this.email = email;
+            this.source = source;
+            this.password = source == null ? null : source.getPassword();
+            this.error = error;
+        }
+
+        private static ImportRow valid(long line, Member source) {
+            return new ImportRow(line, source.getEmail(), source, null);
+        }
+
+        private static ImportRow failed(long line, String email, String error) {
+            return new ImportRow(line, email, null, error);
+        }
+
+        private boolean isValid() {
+            return error == null;
+        }
+
+        private Member newMember() {
+            saved = new Member(source.getEmail(), password, source.getAge());
+            return saved;
+        }
+
+        private void fail(String error) {
+            this.error = error;
+            this.saved = null;
+        }
+
+        private MemberImportResult toResult() {
+            if (error != null) {
+                return MemberImportResult.failed(line, email, error);
+            }
+            return MemberImportResult.created(line, email, saved.getId());
+        }
+    }
+}
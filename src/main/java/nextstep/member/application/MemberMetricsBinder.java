@@ -0,0 +1,18 @@
+package nextstep.member.application;
+
+import nextstep.common.metrics.MetricsRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 컴포넌트들이 이미 세고 있는 통계를 지표로 노출한다
+ */
+@Component
+public class MemberMetricsBinder {
+    public MemberMetricsBinder(MetricsRegistry metricsRegistry, UserDetailsCache userDetailsCache, MemberVersionRegistry memberVersionRegistry) {
+        metricsRegistry.functionCounter("user_details_cache_hits_total", "UserDetails cache hits", userDetailsCache::getHitCount);
+        metricsRegistry.functionCounter("user_details_cache_misses_total", "UserDetails cache misses", userDetailsCache::getMissCount);
+        metricsRegistry.functionCounter("user_details_loads_total", "UserDetails loaded from the database", userDetailsCache::getLoadCount);
+        metricsRegistry.gauge("user_details_load_average_seconds", "Average UserDetails load time", () -> userDetailsCache.getAverageLoadMillis() / 1000);
+        metricsRegistry.gauge("member_version_changes", "Member version changes kept for stale-claim detection", memberVersionRegistry::size);
+    }
+}
@@ -1,21 +1,64 @@
 package nextstep.member.application;
 
+import nextstep.auth.AuthenticationException;
+import nextstep.auth.password.PasswordVerifier;
+import nextstep.auth.principal.UserPrincipal;
+import nextstep.member.application.dto.MemberPageResponse;
 import nextstep.member.application.dto.MemberRequest;
 import nextstep.member.application.dto.MemberResponse;
 import nextstep.member.domain.Member;
+import nextstep.member.domain.MemberClaims;
 import nextstep.member.domain.MemberRepository;
+import nextstep.member.domain.MemberSearchCondition;
+import nextstep.member.domain.MemberSortKey;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 조회는 읽기 전용 트랜잭션으로 스냅샷과 플러시 없이 읽고, 변경만 쓰기 트랜잭션을 연다
+ */
 @Service
+@Transactional(readOnly = true)
 public class MemberService {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
     private MemberRepository memberRepository;
+    private UserDetailsCache userDetailsCache;
+    private PasswordVerifier passwordVerifier;
+    private MemberVersionRegistry memberVersionRegistry;
+    private ApplicationEventPublisher eventPublisher;
 
-    public MemberService(MemberRepository memberRepository) {
+    public MemberService(
+            MemberRepository memberRepository,
+            UserDetailsCache userDetailsCache,
+            PasswordVerifier passwordVerifier,
+            MemberVersionRegistry memberVersionRegistry,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.memberRepository = memberRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.passwordVerifier = passwordVerifier;
+        this.memberVersionRegistry = memberVersionRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional
     public MemberResponse createMember(MemberRequest request) {
-        Member member = memberRepository.save(request.toMember());
+        Member member = memberRepository.save(request.toMember(passwordVerifier.encode(request.getPassword())));
         return MemberResponse.of(member);
     }
 
@@ -24,13 +67,73 @@ public class MemberService {
         return MemberResponse.of(member);
     }
 
-    public void updateMember(Long id, MemberRequest param) {
+    public MemberPageResponse findMembers(String sort, String cursor, int size, String role, Integer minAge, Integer maxAge) {
+        MemberSortKey sortKey = MemberSortKey.of(sort);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        MemberSearchCondition condition = new MemberSearchCondition(sortKey, MemberCursor.decode(sortKey, cursor), role, minAge, maxAge);
+
+        List<Member> members = memberRepository.findPage(condition, pageSize + 1);
+        boolean hasNext = members.size() > pageSize;
+        List<Member> page = hasNext ? members.subList(0, pageSize) : members;
+        String next = hasNext ? MemberCursor.encode(sortKey, page.get(pageSize - 1)) : null;
+
+        return new MemberPageResponse(page.stream().map(MemberResponse::of).collect(Collectors.toList()), next);
+    }
+
+    public Optional<Long> findMemberVersion(Long id) {
+        return memberRepository.findVersionById(id);
+    }
+
+    /**
+     * 기대한 버전이 주어지면 그 버전일 때만 수정한다.
+     * 읽은 뒤 반영하기 전에 다른 요청이 먼저 수정했다면 버전 조건으로 걸러져 마찬가지로 실패한다.
+     */
+    @Transactional
+    public MemberResponse updateMember(Long id, MemberRequest param, Long expectedVersion) {
         Member member = memberRepository.findById(id).orElseThrow(RuntimeException::new);
-        member.update(param.toMember());
+        if (expectedVersion != null && !expectedVersion.equals(member.getVersion())) {
+            throw new MemberVersionMismatchException();
+        }
+
+        String previousEmail = member.getEmail();
+        member.update(param.toMember(passwordVerifier.encode(param.getPassword())));
+        try {
+            memberRepository.saveAndFlush(member);
+        } catch (OptimisticLockingFailureException e) {
+            throw new MemberVersionMismatchException();
+        }
+
+        Long version = member.getVersion();
+        String email = member.getEmail();
+        afterCommit(() -> {
+            memberVersionRegistry.changed(id, version);
+            userDetailsCache.invalidate(previousEmail);
+            userDetailsCache.invalidate(email);
+        });
+        return MemberResponse.of(member);
     }
 
+    @Transactional
     public void deleteMember(Long id) {
-        memberRepository.deleteById(id);
+        Member member = memberRepository.findById(id).orElseThrow(RuntimeException::new);
+        eventPublisher.publishEvent(new MemberDeletedEvent(member.getId()));
+        memberRepository.delete(member);
+        afterCommit(() -> {
+            memberVersionRegistry.removed(member.getId());
+            userDetailsCache.invalidate(member.getEmail());
+        });
+    }
+
+    /**
+     * 전진 전용 커서로 회원을 한 명씩 읽어 넘기고, 넘긴 엔티티는 곧바로 영속성 컨텍스트에서 떼어 낸다.
+     */
+    public void exportMembers(Consumer<MemberResponse> consumer) {
+        try (Stream<Member> members = memberRepository.streamAll()) {
+            members.forEach(member -> {
+                consumer.accept(MemberResponse.of(member));
+                entityManager.detach(member);
+            });
+        }
     }
 
     public MemberResponse findMemberByEmail(String email) {
@@ -38,4 +141,59 @@ public class MemberService {
                 .map(MemberResponse::of)
                 .orElseThrow(RuntimeException::new);
     }
-}
\ No newline at end of file
+
+    /**
+     * 토큰 클레임만으로 내 정보를 만들고, 토큰 발급 뒤에 회원 정보가 바뀌었을 때만 DB에서 다시 읽는다.
+     */
+    public MemberResponse findMemberOfMine(UserPrincipal principal) {
+        Long id = toLong(principal.getAttribute(MemberClaims.ID));
+        Long version = toLong(principal.getAttribute(MemberClaims.VERSION));
+        Long issuedAt = toLong(principal.getAttribute(MemberClaims.ISSUED_AT));
+        Object age = principal.getAttribute(MemberClaims.AGE);
+
+        if (id != null && version != null && issuedAt != null && age instanceof Number
+                && memberVersionRegistry.isCurrent(id, version, issuedAt * 1000)) {
+            return new MemberResponse(id, principal.getUsername(), ((Number) age).intValue(), version);
+        }
+
+        Optional<Member> member = id != null ? memberRepository.findById(id) : memberRepository.findByEmail(principal.getUsername());
+        return member.map(MemberResponse::of).orElseThrow(AuthenticationException::new);
+    }
+
+    /**
+     * 토큰 클레임의 회원 id를 그대로 쓰고, 클레임이 없거나 삭제된 회원일 수 있을 때만 DB에서 확인한다.
+     * 삭제 기록은 인스턴스마다 따로 가지므로, 다른 인스턴스에서 지운 회원의 id가 나올 수 있다. 이 id로 쓰는 쪽은 외래 키로 막는다.
+     */
+    public Long findMemberIdOfMine(UserPrincipal principal) {
+        Long id = toLong(principal.getAttribute(MemberClaims.ID));
+        Long issuedAt = toLong(principal.getAttribute(MemberClaims.ISSUED_AT));
+
+        if (id != null && issuedAt != null && memberVersionRegistry.isPresent(id, issuedAt * 1000)) {
+            return id;
+        }
+
+        Optional<Member> member = id != null ? memberRepository.findById(id) : memberRepository.findByEmail(principal.getUsername());
+        return member.map(Member::getId).orElseThrow(AuthenticationException::new);
+    }
+
+    /**
+     * 캐시 무효화와 버전 기록은 커밋 뒤에 한다.
+     * 커밋 전에 하면 그 사이에 시작한 로그인이 아직 커밋된 옛 행을 읽어 다시 캐시하거나 옛 버전을 믿게 된다.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+}
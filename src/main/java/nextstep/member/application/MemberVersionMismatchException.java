@@ -0,0 +1,8 @@
+package nextstep.member.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class MemberVersionMismatchException extends RuntimeException {
+}
@@ -0,0 +1,82 @@
+package nextstep.member.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원 id별 마지막으로 바뀐 버전 기록.
+ * 토큰 클레임의 버전이 여기 기록된 것보다 낮거나, 토큰이 이 인스턴스가 뜨기 전에 발급되었으면 클레임을 믿지 않는다.
+ * 토큰 유효 기간이 지난 기록은 그 이전 버전을 들고 있는 토큰이 더는 없으므로 지운다.
+ */
+@Component
+public class MemberVersionRegistry {
+    private static final long REMOVED = Long.MAX_VALUE;
+    private static final int PURGE_INTERVAL = 1024;
+
+    private final Map<Long, Change> changes = new ConcurrentHashMap<>();
+    private final AtomicInteger changesSincePurge = new AtomicInteger();
+    private long retentionMillis;
+    private long startedAtMillis;
+
+    public MemberVersionRegistry(@Value("${security.jwt.token.expire-length}") long retentionMillis) {
+        this.retentionMillis = retentionMillis;
+        this.startedAtMillis = System.currentTimeMillis() / 1000 * 1000;
+    }
+
+    public void changed(Long id, long version) {
+        changes.merge(id, new Change(version, System.currentTimeMillis()), (current, next) -> current.version > next.version ? current : next);
+        if (changesSincePurge.incrementAndGet() >= PURGE_INTERVAL) {
+            changesSincePurge.set(0);
+            purge();
+        }
+    }
+
+    public void removed(Long id) {
+        changed(id, REMOVED);
+    }
+
+    /**
+     * 해당 시각에 발급된 토큰의 버전이 지금도 최신인지 여부
+     */
+    public boolean isCurrent(Long id, long version, long issuedAtMillis) {
+        if (issuedAtMillis < startedAtMillis) {
+            return false;
+        }
+        Change change = changes.get(id);
+        return change == null || change.version <= version;
+    }
+
+    /**
+     * 해당 시각에 발급된 토큰의 회원이 그 뒤로 삭제되지 않았는지 여부
+     */
+    public boolean isPresent(Long id, long issuedAtMillis) {
+        if (issuedAtMillis < startedAtMillis) {
+            return false;
+        }
+        Change change = changes.get(id);
+        return change == null || change.version != REMOVED;
+    }
+
+    public int size() {
+        return changes.size();
+    }
+
+    private void purge() {
+        long threshold = System.currentTimeMillis() - retentionMillis;
+        changes.values().removeIf(change -> change.changedAtMillis < threshold);
+    }
+
+    private static class Change {
+        private final long version;
+        private final long changedAtMillis;
+
+        Change(long version, long changedAtMillis) {
+            this.version = version;
+            this.changedAtMillis = changedAtMillis;
+        }
+    }
+}
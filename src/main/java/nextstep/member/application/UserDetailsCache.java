@@ -0,0 +1,83 @@
+package nextstep.member.application;
+
+import nextstep.auth.userdetails.UserDetails;
+import nextstep.common.cache.ExpiringCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 이메일별 UserDetails 읽기 캐시.
+ * 조회 도중 무효화가 일어나면 읽어 온 값은 캐시에 넣지 않아, 수정 직전의 값이 다시 들어앉지 않는다.
+ */
+@Component
+public class UserDetailsCache {
+    private ExpiringCache<String, UserDetails> cache;
+    private long ttlMillis;
+
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public UserDetailsCache(
+            @Value("${member.user-details.cache.max-size}") int maxSize,
+            @Value("${member.user-details.cache.ttl}") long ttlMillis
+    ) {
+        this.cache = new ExpiringCache<>(maxSize);
+        this.ttlMillis = ttlMillis;
+    }
+
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        UserDetails cached = cache.get(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        long start = System.nanoTime();
+        UserDetails loaded = loader.apply(email);
+        loadNanos.add(System.nanoTime() - start);
+        loads.increment();
+
+        if (invalidations.get() == invalidationsBeforeLoad) {
+            cache.put(email, loaded, System.currentTimeMillis() + ttlMillis);
+        }
+        return loaded;
+    }
+
+    public void invalidate(String email) {
+        invalidations.incrementAndGet();
+        cache.invalidate(email);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public double getHitRatio() {
+        long hits = cache.getHitCount();
+        long total = hits + cache.getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    public double getAverageLoadMillis() {
+        long count = loads.sum();
+        return count == 0 ? 0 : loadNanos.sum() / 1_000_000.0 / count;
+    }
+}
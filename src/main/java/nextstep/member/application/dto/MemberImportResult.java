@@ -0,0 +1,46 @@
+package nextstep.member.application.dto;
+
+public class MemberImportResult {
+    private long line;
+    private String email;
+    private Long id;
+    private String error;
+
+    public MemberImportResult() {
+    }
+
+    private MemberImportResult(long line, String email, Long id, String error) {
+        this.line = line;
+        this.email = email;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static MemberImportResult created(long line, String email, Long id) {
+        return new MemberImportResult(line, email, id, null);
+    }
+
+    public static MemberImportResult failed(long line, String email, String error) {
+        return new MemberImportResult(line, email, null, error);
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isCreated() {
+        return id != null;
+    }
+}
@@ -0,0 +1,24 @@
+package nextstep.member.application.dto;
+
+import java.util.List;
+
+public class MemberPageResponse {
+    private List<MemberResponse> members;
+    private String next;
+
+    public MemberPageResponse() {
+    }
+
+    public MemberPageResponse(List<MemberResponse> members, String next) {
+        this.members = members;
+        this.next = next;
+    }
+
+    public List<MemberResponse> getMembers() {
+        return members;
+    }
+
+    public String getNext() {
+        return next;
+    }
+}
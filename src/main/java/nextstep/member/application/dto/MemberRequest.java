@@ -28,7 +28,7 @@ public class MemberRequest {
         return age;
     }
 
-    public Member toMember() {
-        return new Member(email, password, age);
+    public Member toMember(String encodedPassword) {
+        return new Member(email, encodedPassword, age);
     }
 }
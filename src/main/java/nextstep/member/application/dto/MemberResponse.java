@@ -1,11 +1,13 @@
 package nextstep.member.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import nextstep.member.domain.Member;
 
 public class MemberResponse {
     private Long id;
     private String email;
     private Integer age;
+    private Long version;
 
     public MemberResponse() {
     }
@@ -16,8 +18,13 @@ public class MemberResponse {
         this.age = age;
     }
 
+    public MemberResponse(Long id, String email, Integer age, Long version) {
+        this(id, email, age);
+        this.version = version;
+    }
+
     public static MemberResponse of(Member member) {
-        return new MemberResponse(member.getId(), member.getEmail(), member.getAge());
+        return new MemberResponse(member.getId(), member.getEmail(), member.getAge(), member.getVersion());
     }
 
     public Long getId() {
@@ -31,4 +38,9 @@ public class MemberResponse {
     public Integer getAge() {
         return age;
     }
-}
\ No newline at end of file
+
+    @JsonIgnore
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -2,13 +2,26 @@ package nextstep.member.domain;
 
 import nextstep.auth.token.oauth2.OAuth2User;
 
+import java.util.Collections;
+import java.util.Map;
+
 public class CustomOAuth2User implements OAuth2User {
     private String email;
     private String role;
+    private Map<String, Object> claims;
 
     public CustomOAuth2User(String email, String role) {
+        this(email, role, Collections.emptyMap());
+    }
+
+    public CustomOAuth2User(String email, String role, Map<String, Object> claims) {
         this.email = email;
         this.role = role;
+        this.claims = claims;
+    }
+
+    public static CustomOAuth2User of(Member member) {
+        return new CustomOAuth2User(member.getEmail(), member.getRole(), MemberClaims.of(member));
     }
 
     @Override
@@ -20,4 +33,9 @@ public class CustomOAuth2User implements OAuth2User {
     public String getRole() {
         return role;
     }
+
+    @Override
+    public Map<String, Object> getClaims() {
+        return claims;
+    }
 }
@@ -2,15 +2,28 @@ package nextstep.member.domain;
 
 import nextstep.auth.userdetails.UserDetails;
 
+import java.util.Collections;
+import java.util.Map;
+
 public class CustomUserDetails implements UserDetails {
     private String email;
     private String password;
     private String role;
+    private Map<String, Object> claims;
 
     public CustomUserDetails(String email, String password, String role) {
+        this(email, password, role, Collections.emptyMap());
+    }
+
+    public CustomUserDetails(String email, String password, String role, Map<String, Object> claims) {
         this.email = email;
         this.password = password;
         this.role = role;
+        this.claims = claims;
+    }
+
+    public static CustomUserDetails of(Member member) {
+        return new CustomUserDetails(member.getEmail(), member.getPassword(), member.getRole(), MemberClaims.of(member));
     }
 
     @Override
@@ -27,4 +40,9 @@ public class CustomUserDetails implements UserDetails {
     public String getRole() {
         return role;
     }
+
+    @Override
+    public Map<String, Object> getClaims() {
+        return claims;
+    }
 }
@@ -1,18 +1,27 @@
 package nextstep.member.domain;
 
 import javax.persistence.*;
-import java.util.Objects;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_member_role_id", columnList = "role, id"),
+        @Index(name = "idx_member_role_email", columnList = "role, email"),
+        @Index(name = "idx_member_role_age_id", columnList = "role, age, id"),
+        @Index(name = "idx_member_age_id", columnList = "age, id")
+}, uniqueConstraints = @UniqueConstraint(name = Member.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"))
 public class Member {
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_member_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
     private Long id;
-    @Column(unique = true)
     private String email;
     private String password;
     private Integer age;
     private String role;
+    @Version
+    private Long version = 0L;
 
     public Member() {
     }
@@ -51,13 +60,13 @@ public class Member {
         return role;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public void update(Member member) {
         this.email = member.email;
         this.password = member.password;
         this.age = member.age;
     }
-
-    public boolean checkPassword(String password) {
-        return Objects.equals(this.password, password);
-    }
 }
@@ -0,0 +1,26 @@
+package nextstep.member.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 토큰에 싣는 회원 클레임.
+ * 버전은 회원 정보가 바뀔 때마다 JPA가 올려 주므로, 토큰의 클레임이 지금도 유효한지 가늠하는 데 쓴다.
+ */
+public class MemberClaims {
+    public static final String ID = "id";
+    public static final String AGE = "age";
+    public static final String VERSION = "ver";
+    public static final String ISSUED_AT = "iat";
+
+    private MemberClaims() {
+    }
+
+    public static Map<String, Object> of(Member member) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(ID, member.getId());
+        claims.put(AGE, member.getAge());
+        claims.put(VERSION, member.getVersion());
+        return claims;
+    }
+}
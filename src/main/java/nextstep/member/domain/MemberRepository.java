@@ -1,11 +1,52 @@
 package nextstep.member.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
+    String STREAM_FETCH_SIZE = "100";
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
 
+    @Query("select m.version from Member m where m.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select m from Member m order by m.id")
+    Stream<Member> streamAll();
+
     void deleteByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.password = :password where m.email = :email")
+    int updatePassword(@Param("email") String email, @Param("password") String password);
+
+    /**
+     * 이메일로 회원을 찾고, 없으면 한 문장으로 삽입한 뒤 다시 읽는다. 이미 가입한 회원은 조회 한 번으로 끝난다.
+     * 삽입한 행을 다시 읽어야 하므로 읽기-쓰기 트랜잭션 안에서 불러 세 문장이 모두 주 DB로 가게 한다.
+     * 동시에 같은 이메일로 삽입하다 유니크 제약에 걸리면 DataIntegrityViolationException을 그대로 던지고, 트랜잭션은 되돌려야 한다.
+     */
+    default Member findOrCreate(Member member) {
+        return findByEmail(member.getEmail()).orElseGet(() -> {
+            insertIfAbsent(member);
+            return findByEmail(member.getEmail()).orElseThrow(IllegalStateException::new);
+        });
+    }
 }
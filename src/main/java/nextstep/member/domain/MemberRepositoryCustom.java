@@ -0,0 +1,9 @@
+package nextstep.member.domain;
+
+import java.util.List;
+
+public interface MemberRepositoryCustom {
+    List<Member> findPage(MemberSearchCondition condition, int limit);
+
+    int insertIfAbsent(Member member);
+}
@@ -0,0 +1,78 @@
+package nextstep.member.domain;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * OFFSET 대신 정렬 키가 마지막으로 본 값보다 큰 행만 읽는 키셋 페이지 조회.
+ * 조건이 주어진 항목만 WHERE 절에 넣어 인덱스 범위 탐색이 그대로 쓰이게 한다.
+ */
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+    private static final String INSERT_IF_ABSENT = "MERGE INTO member m "
+            + "USING (VALUES (CAST(:email AS VARCHAR(255)))) s(email) ON m.email = s.email "
+            + "WHEN NOT MATCHED THEN INSERT (id, email, password, age, role, version) "
+            + "VALUES (:id, :email, :password, :age, :role, 0)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Member> findPage(MemberSearchCondition condition, int limit) {
+        String sortProperty = condition.getSortKey().getProperty();
+        StringBuilder jpql = new StringBuilder("select m from Member m where 1 = 1");
+        if (condition.getRole() != null) {
+            jpql.append(" and m.role = :role");
+        }
+        if (condition.getMinAge() != null) {
+            jpql.append(" and m.age >= :minAge");
+        }
+        if (condition.getMaxAge() != null) {
+            jpql.append(" and m.age <= :maxAge");
+        }
+        if (condition.getAfter() != null) {
+            jpql.append(" and m.").append(sortProperty).append(" > :after");
+        }
+        jpql.append(" order by m.").append(sortProperty);
+
+        TypedQuery<Member> query = entityManager.createQuery(jpql.toString(), Member.class);
+        if (condition.getRole() != null) {
+            query.setParameter("role", condition.getRole());
+        }
+        if (condition.getMinAge() != null) {
+            query.setParameter("minAge", condition.getMinAge());
+        }
+        if (condition.getMaxAge() != null) {
+            query.setParameter("maxAge", condition.getMaxAge());
+        }
+        if (condition.getAfter() != null) {
+            query.setParameter("after", condition.getAfter());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * 이메일이 없을 때만 한 문장으로 삽입한다. id는 save()와 같은 Hibernate 생성기에서 받아 pooled 블록과 겹치지 않는다.
+     * 이미 있는 이메일이면 받은 id는 쓰지 않고 버린다.
+     */
+    @Override
+    @Transactional
+    public int insertIfAbsent(Member member) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        Serializable id = session.getFactory().getMetamodel().entityPersister(Member.class)
+                .getIdentifierGenerator()
+                .generate(session, member);
+        return entityManager.createNativeQuery(INSERT_IF_ABSENT)
+                .setParameter("id", id)
+                .setParameter("email", member.getEmail())
+                .setParameter("password", member.getPassword())
+                .setParameter("age", member.getAge())
+                .setParameter("role", member.getRole())
+                .executeUpdate();
+    }
+}
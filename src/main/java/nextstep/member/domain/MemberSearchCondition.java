@@ -0,0 +1,37 @@
+package nextstep.member.domain;
+
+public class MemberSearchCondition {
+    private MemberSortKey sortKey;
+    private Object after;
+    private String role;
+    private Integer minAge;
+    private Integer maxAge;
+
+    public MemberSearchCondition(MemberSortKey sortKey, Object after, String role, Integer minAge, Integer maxAge) {
+        this.sortKey = sortKey;
+        this.after = after;
+        this.role = role;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+    }
+
+    public MemberSortKey getSortKey() {
+        return sortKey;
+    }
+
+    public Object getAfter() {
+        return after;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+}
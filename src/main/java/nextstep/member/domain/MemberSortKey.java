@@ -0,0 +1,25 @@
+package nextstep.member.domain;
+
+import java.util.Arrays;
+
+public enum MemberSortKey {
+    ID("id"),
+    EMAIL("email");
+
+    private final String property;
+
+    MemberSortKey(String property) {
+        this.property = property;
+    }
+
+    public static MemberSortKey of(String property) {
+        return Arrays.stream(values())
+                .filter(it -> it.property.equalsIgnoreCase(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("unsupported sort: " + property));
+    }
+
+    public String getProperty() {
+        return property;
+    }
+}
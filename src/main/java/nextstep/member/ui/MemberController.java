@@ -1,19 +1,42 @@
 package nextstep.member.ui;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.auth.AuthorizationException;
+import nextstep.auth.principal.AuthenticationPrincipal;
+import nextstep.auth.principal.UserPrincipal;
+import nextstep.member.application.MemberImportFormat;
+import nextstep.member.application.MemberImportService;
 import nextstep.member.application.MemberService;
+import nextstep.member.application.dto.MemberPageResponse;
 import nextstep.member.application.dto.MemberRequest;
 import nextstep.member.application.dto.MemberResponse;
+import nextstep.member.domain.RoleType;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.Optional;
 
 @RestController
 public class MemberController {
+    private static final String NDJSON = "application/x-ndjson";
+
     private MemberService memberService;
+    private MemberImportService memberImportService;
+    private ObjectMapper objectMapper;
 
-    public MemberController(MemberService memberService) {
+    public MemberController(MemberService memberService, MemberImportService memberImportService, ObjectMapper objectMapper) {
         this.memberService = memberService;
+        this.memberImportService = memberImportService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/members")
@@ -22,16 +45,77 @@ public class MemberController {
         return ResponseEntity.created(URI.create("/members/" + member.getId())).build();
     }
 
+    /**
+     * 회원의 이메일과 나이를 보여 주므로 관리자만 쓸 수 있다. 회원가입과 경로가 같아 필터 대신 인자 리졸버가 토큰을 검증한다.
+     */
+    @GetMapping("/members")
+    public ResponseEntity<MemberPageResponse> findMembers(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge
+    ) {
+        checkAdmin(principal);
+        return ResponseEntity.ok(memberService.findMembers(sort, cursor, size, role, minAge, maxAge));
+    }
+
+    /**
+     * 미리 해시한 비밀번호로도 계정을 만들 수 있으므로 관리자만 쓸 수 있다
+     */
+    @PostMapping(value = "/members/import", consumes = {NDJSON, "text/csv"}, produces = NDJSON)
+    public void importMembers(@AuthenticationPrincipal UserPrincipal principal, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        checkAdmin(principal);
+        MemberImportFormat format = MemberImportFormat.of(request.getContentType());
+        response.setContentType(NDJSON);
+        OutputStream output = response.getOutputStream();
+        memberImportService.importMembers(request.getInputStream(), format, result -> writeLine(output, result));
+    }
+
+    /**
+     * 모든 회원의 이메일과 나이를 내보내므로 관리자만 쓸 수 있다
+     */
+    @GetMapping(value = "/members/export", produces = NDJSON)
+    public void exportMembers(@AuthenticationPrincipal UserPrincipal principal, HttpServletResponse response) throws IOException {
+        checkAdmin(principal);
+        response.setContentType(NDJSON);
+        OutputStream output = response.getOutputStream();
+        memberService.exportMembers(member -> writeLine(output, member));
+    }
+
+    /**
+     * If-None-Match가 오면 버전만 조회해 비교하고, 바뀌지 않았으면 엔티티를 읽지 않고 304로 끝낸다.
+     */
     @GetMapping("/members/{id}")
-    public ResponseEntity<MemberResponse> findMember(@PathVariable Long id) {
+    public ResponseEntity<MemberResponse> findMember(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        if (ifNoneMatch != null) {
+            Optional<String> eTag = memberService.findMemberVersion(id).map(version -> MemberETag.of(id, version));
+            if (eTag.isPresent() && MemberETag.matches(ifNoneMatch, eTag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+            }
+        }
+
         MemberResponse member = memberService.findMember(id);
-        return ResponseEntity.ok().body(member);
+        return ResponseEntity.ok()
+                .eTag(MemberETag.of(member.getId(), member.getVersion()))
+                .body(member);
     }
 
     @PutMapping("/members/{id}")
-    public ResponseEntity<MemberResponse> updateMember(@PathVariable Long id, @RequestBody MemberRequest param) {
-        memberService.updateMember(id, param);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<MemberResponse> updateMember(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody MemberRequest param
+    ) {
+        MemberResponse member = memberService.updateMember(id, param, MemberETag.expectedVersion(id, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(MemberETag.of(member.getId(), member.getVersion()))
+                .build();
     }
 
     @DeleteMapping("/members/{id}")
@@ -41,8 +125,31 @@ public class MemberController {
     }
 
     @GetMapping("/members/me")
-    public ResponseEntity<MemberResponse> findMemberOfMine() {
-        return ResponseEntity.ok().build();
+    public ResponseEntity<MemberResponse> findMemberOfMine(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        MemberResponse member = memberService.findMemberOfMine(userPrincipal);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(MemberETag.of(member.getId(), member.getVersion()))
+                .body(member);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleIllegalArgument() {
+        return ResponseEntity.badRequest().build();
     }
-}
 
+    private static void checkAdmin(UserPrincipal principal) {
+        if (!RoleType.ROLE_ADMIN.name().equals(principal.getRole())) {
+            throw new AuthorizationException();
+        }
+    }
+
+    private void writeLine(OutputStream output, Object value) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(value));
+            output.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package nextstep.member.ui;
+
+/**
+ * 회원 응답의 강한 ETag. 회원 id와 JPA 버전으로 만든다.
+ */
+class MemberETag {
+    private static final String ANY = "*";
+    private static final long UNMATCHABLE = -1L;
+
+    private MemberETag() {
+    }
+
+    static String of(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더에 주어진 ETag가 있는지 약한 비교로 확인한다
+     */
+    static boolean matches(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals(ANY) || tag.equals(eTag) || tag.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Match 헤더가 가리키는 버전. 헤더가 없거나 * 이면 null, 이 회원의 강한 ETag가 아니면 어떤 버전과도 맞지 않는 값
+     */
+    static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+
+        String prefix = "\"" + id + "-";
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+                try {
+                    return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+                } catch (NumberFormatException e) {
+                    return UNMATCHABLE;
+                }
+            }
+        }
+        return UNMATCHABLE;
+    }
+}
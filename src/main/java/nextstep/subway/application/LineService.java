@@ -0,0 +1,89 @@
+package nextstep.subway.application;
+
+import nextstep.subway.application.dto.LineRequest;
+import nextstep.subway.application.dto.LineResponse;
+import nextstep.subway.application.dto.SectionRequest;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 노선과 구간을 관리한다. 구간이 바뀌면 커밋 뒤에 경로 그래프를 다시 만들도록 NetworkChangedEvent를 낸다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class LineService {
+    private LineRepository lineRepository;
+    private StationService stationService;
+    private ApplicationEventPublisher eventPublisher;
+
+    public LineService(LineRepository lineRepository, StationService stationService, ApplicationEventPublisher eventPublisher) {
+        this.lineRepository = lineRepository;
+        this.stationService = stationService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public LineResponse saveLine(LineRequest request) {
+        Line line = new Line(request.getName(), request.getColor());
+        line.addSection(
+                stationService.findStation(request.getUpStationId()),
+                stationService.findStation(request.getDownStationId()),
+                request.getDistance(),
+                request.getDuration()
+        );
+        lineRepository.save(line);
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+        return LineResponse.of(line);
+    }
+
+    public List<LineResponse> findAllLines() {
+        return lineRepository.findAllWithStations().stream()
+                .map(LineResponse::of)
+                .collect(Collectors.toList());
+    }
+
+    public LineResponse findLine(Long id) {
+        return LineResponse.of(findLineWithStations(id));
+    }
+
+    @Transactional
+    public void updateLine(Long id, LineRequest request) {
+        Line line = lineRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("없는 노선입니다: " + id));
+        line.update(request.getName(), request.getColor());
+    }
+
+    @Transactional
+    public void deleteLine(Long id) {
+        lineRepository.delete(findLineWithStations(id));
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+    }
+
+    @Transactional
+    public void addSection(Long lineId, SectionRequest request) {
+        Line line = findLineWithStations(lineId);
+        line.addSection(
+                stationService.findStation(request.getUpStationId()),
+                stationService.findStation(request.getDownStationId()),
+                request.getDistance(),
+                request.getDuration()
+        );
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+    }
+
+    @Transactional
+    public void removeStation(Long lineId, Long stationId) {
+        Line line = findLineWithStations(lineId);
+        line.removeStation(stationService.findStation(stationId));
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+    }
+
+    private Line findLineWithStations(Long id) {
+        return lineRepository.findByIdWithStations(id).orElseThrow(() -> new IllegalArgumentException("없는 노선입니다: " + id));
+    }
+}
@@ -0,0 +1,7 @@
+package nextstep.subway.application;
+
+/**
+ * 역이나 구간이 바뀌어 경로 탐색용 그래프를 다시 만들어야 함을 알린다
+ */
+public class NetworkChangedEvent {
+}
@@ -0,0 +1,83 @@
+package nextstep.subway.application;
+
+import nextstep.common.cache.TinyLfuCache;
+import nextstep.subway.application.dto.PathResponse;
+import nextstep.subway.domain.PathType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * (출발역, 도착역, 기준)별 경로 응답 캐시. 항목에는 찾을 때 쓴 그래프의 세대를 달아 두어,
+ * 노선망이 바뀌어 세대가 오르면 따로 비우지 않아도 모두 무효가 된다.
+ */
+@Component
+public class PathCache {
+    private TinyLfuCache<Key, PathResponse> cache;
+
+    public PathCache(@Value("${subway.path.cache.max-size}") int maxSize) {
+        this.cache = new TinyLfuCache<>(maxSize);
+    }
+
+    public PathResponse get(long source, long target, PathType type, long generation) {
+        return cache.get(new Key(source, target, type), generation);
+    }
+
+    public void put(long source, long target, PathType type, long generation, PathResponse response) {
+        cache.put(new Key(source, target, type), response, generation);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public double getHitRatio() {
+        return cache.getHitRatio();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public long getRejectionCount() {
+        return cache.getRejectionCount();
+    }
+
+    private static class Key {
+        private final long source;
+        private final long target;
+        private final PathType type;
+
+        private Key(long source, long target, PathType type) {
+            this.source = source;
+            this.target = target;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return source == key.source && target == key.target && type == key.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, target, type.ordinal());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package nextstep.subway.application;
+
+import nextstep.subway.application.dto.PathResponse;
+import nextstep.subway.domain.PathType;
+import nextstep.subway.domain.ShortestPath;
+import nextstep.subway.domain.SubwayGraph;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메모리에 있는 그래프 스냅샷만으로 경로를 찾으므로 DB를 읽지 않는다.
+ * 같은 스냅샷에서 찾은 경로는 PathCache에서 다시 꺼내 쓴다.
+ */
+@Service
+public class PathService {
+    private SubwayNetwork subwayNetwork;
+    private PathCache pathCache;
+
+    public PathService(SubwayNetwork subwayNetwork, PathCache pathCache) {
+        this.subwayNetwork = subwayNetwork;
+        this.pathCache = pathCache;
+    }
+
+    public PathResponse findPath(Long source, Long target, PathType type) {
+        if (source.equals(target)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다");
+        }
+        SubwayGraph graph = subwayNetwork.current();
+        PathResponse cached = pathCache.get(source, target, type, graph.getGeneration());
+        if (cached != null) {
+            return cached;
+        }
+
+        PathResponse response = PathResponse.of(findShortestPath(graph, source, target, type));
+        pathCache.put(source, target, type, graph.getGeneration(), response);
+        return response;
+    }
+
+    private ShortestPath findShortestPath(SubwayGraph graph, Long source, Long target, PathType type) {
+        return graph.findPath(source, target, type)
+                .orElseThrow(() -> new IllegalArgumentException("두 역을 잇는 경로가 없습니다"));
+    }
+}
@@ -0,0 +1,11 @@
+package nextstep.subway.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 구간이나 즐겨찾기가 아직 가리키고 있는 역은 지울 수 없다
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class StationInUseException extends RuntimeException {
+}
@@ -0,0 +1,58 @@
+package nextstep.subway.application;
+
+import nextstep.subway.application.dto.StationRequest;
+import nextstep.subway.application.dto.StationResponse;
+import nextstep.subway.domain.SectionRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class StationService {
+    private StationRepository stationRepository;
+    private SectionRepository sectionRepository;
+
+    public StationService(StationRepository stationRepository, SectionRepository sectionRepository) {
+        this.stationRepository = stationRepository;
+        this.sectionRepository = sectionRepository;
+    }
+
+    @Transactional
+    public StationResponse saveStation(StationRequest request) {
+        Station station = stationRepository.save(request.toStation());
+        return StationResponse.of(station);
+    }
+
+    public List<StationResponse> findAllStations() {
+        return stationRepository.findAll().stream()
+                .map(StationResponse::of)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 구간에 남아 있는 역은 미리 걸러 내므로 경로 그래프에 있는 역은 지워지지 않는다.
+     * 즐겨찾기처럼 다른 모듈이 가리키는 역은 외래 키 위반으로 알아챈다.
+     */
+    @Transactional
+    public void deleteStationById(Long id) {
+        if (sectionRepository.existsByUpStationIdOrDownStationId(id, id)) {
+            throw new StationInUseException();
+        }
+        try {
+            stationRepository.deleteById(id);
+            stationRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new StationInUseException();
+        }
+    }
+
+    Station findStation(Long id) {
+        return stationRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("없는 역입니다: " + id));
+    }
+}
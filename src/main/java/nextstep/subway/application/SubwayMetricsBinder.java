@@ -0,0 +1,22 @@
+package nextstep.subway.application;
+
+import nextstep.common.metrics.MetricsRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경로 탐색 컴포넌트들이 세고 있는 통계를 지표로 노출한다
+ */
+@Component
+public class SubwayMetricsBinder {
+    public SubwayMetricsBinder(MetricsRegistry metricsRegistry, SubwayNetwork subwayNetwork, PathCache pathCache) {
+        metricsRegistry.gauge("subway_network_generation", "Generation of the subway network snapshot", subwayNetwork::getGeneration);
+        metricsRegistry.gauge("subway_all_pairs_table_bytes", "Memory held by the precomputed all-pairs path table, 0 when disabled", subwayNetwork::getAllPairsBytes);
+        metricsRegistry.gauge("subway_all_pairs_build_seconds", "Time taken by the last all-pairs path table build", subwayNetwork::getAllPairsBuildSeconds);
+        metricsRegistry.functionCounter("path_cache_hits_total", "Path cache hits", pathCache::getHitCount);
+        metricsRegistry.functionCounter("path_cache_misses_total", "Path cache misses, including entries of an older network generation", pathCache::getMissCount);
+        metricsRegistry.gauge("path_cache_hit_ratio", "Path cache hit ratio since startup", pathCache::getHitRatio);
+        metricsRegistry.functionCounter("path_cache_evictions_total", "Paths evicted to admit a more frequently requested one", pathCache::getEvictionCount);
+        metricsRegistry.functionCounter("path_cache_rejections_total", "Paths not admitted because they were requested less often than the eviction candidate", pathCache::getRejectionCount);
+        metricsRegistry.gauge("path_cache_size", "Cached paths", pathCache::size);
+    }
+}
@@ -0,0 +1,123 @@
+package nextstep.subway.application;
+
+import nextstep.subway.domain.SectionRepository;
+import nextstep.subway.domain.SubwayGraph;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 경로 탐색에 쓰는 그래프 스냅샷을 들고 있다. 노선망이 바뀔 때마다 세대를 올리고 커밋 뒤에 새로 만들어 한 번에 바꿔 끼운다.
+ * 조회는 잠금 없이 현재 스냅샷을 읽기만 한다. 낡은 스냅샷을 만난 조회는 한 스레드만 새로 만들고,
+ * 나머지는 만드는 동안 이전 스냅샷으로 답한다. 노선망을 바꾼 스레드는 커밋 뒤 새 스냅샷이 만들어질 때까지 기다린다.
+ * 경로표를 켜 두면 역 수가 상한 이하일 때 스냅샷마다 모든 역 쌍의 경로표를 전용 풀에서 미리 만들어 붙인다.
+ */
+@Component
+public class SubwayNetwork {
+    private final AtomicReference<SubwayGraph> graph = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private SectionRepository sectionRepository;
+    private boolean allPairsEnabled;
+    private int allPairsMaxStations;
+    private ForkJoinPool allPairsPool;
+    private volatile long allPairsBuildNanos;
+
+    public SubwayNetwork(
+            SectionRepository sectionRepository,
+            @Value("${subway.path.all-pairs.enabled}") boolean allPairsEnabled,
+            @Value("${subway.path.all-pairs.max-stations}") int allPairsMaxStations,
+            @Value("${subway.path.all-pairs.threads}") int allPairsThreads
+    ) {
+        this.sectionRepository = sectionRepository;
+        this.allPairsEnabled = allPairsEnabled;
+        this.allPairsMaxStations = allPairsMaxStations;
+        this.allPairsPool = new ForkJoinPool(allPairsThreads, SubwayNetwork::newAllPairsWorker, null, false);
+    }
+
+    public SubwayGraph current() {
+        SubwayGraph current = graph.get();
+        if (current != null && current.getGeneration() == generation.get()) {
+            return current;
+        }
+        if (current == null) {
+            rebuildLock.lock();
+        } else if (!rebuildLock.tryLock()) {
+            return current;
+        }
+        try {
+            return rebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        invalidate();
+        rebuildLock.lock();
+        try {
+            rebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 스냅샷을 낡은 것으로 표시한다. 다음 조회가 새로 만든다.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    public long getAllPairsBytes() {
+        SubwayGraph current = graph.get();
+        return current == null ? 0 : current.getAllPairsBytes();
+    }
+
+    /**
+     * 마지막으로 경로표를 만드는 데 걸린 시간
+     */
+    public double getAllPairsBuildSeconds() {
+        return allPairsBuildNanos / 1e9;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        allPairsPool.shutdown();
+    }
+
+    private SubwayGraph rebuild() {
+        long target = generation.get();
+        SubwayGraph current = graph.get();
+        if (current != null && current.getGeneration() >= target) {
+            return current;
+        }
+        SubwayGraph rebuilt = SubwayGraph.of(target, sectionRepository.findAllWithStations());
+        if (allPairsEnabled && rebuilt.getStationCount() <= allPairsMaxStations) {
+            long startedAt = System.nanoTime();
+            rebuilt = rebuilt.withAllPairs(allPairsPool);
+            allPairsBuildNanos = System.nanoTime() - startedAt;
+        }
+        graph.set(rebuilt);
+        return rebuilt;
+    }
+
+    private static ForkJoinWorkerThread newAllPairsWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("subway-all-pairs-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,41 @@
+package nextstep.subway.application.dto;
+
+import nextstep.subway.domain.ShortestPath;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PathResponse {
+    private List<StationResponse> stations;
+    private int distance;
+    private int duration;
+
+    public PathResponse() {
+    }
+
+    public PathResponse(List<StationResponse> stations, int distance, int duration) {
+        this.stations = stations;
+        this.distance = distance;
+        this.duration = duration;
+    }
+
+    public static PathResponse of(ShortestPath path) {
+        List<StationResponse> stations = new ArrayList<>(path.size());
+        for (int i = 0; i < path.size(); i++) {
+            stations.add(new StationResponse(path.getStationId(i), path.getStationName(i)));
+        }
+        return new PathResponse(stations, path.getDistance(), path.getDuration());
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+}
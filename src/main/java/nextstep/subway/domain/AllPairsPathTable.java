@@ -0,0 +1,95 @@
+package nextstep.subway.domain;
+
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 모든 역 쌍의 최단 비용과 다음 간선을 기준별로 n * n 원시 배열에 적어 둔 표.
+ * 행은 도착역이라 [target * n + v]에 v에서 target까지의 비용과 v에서 처음 탈 간선이 있고, 경로는 이 간선을 따라가며 만든다.
+ * 역이 n개면 기준 두 개에 int 배열 두 개씩이라 16 * n^2 바이트를 쓴다.
+ */
+final class AllPairsPathTable {
+    private static final int ROWS_PER_TASK = 16;
+
+    private final SubwayGraph graph;
+    private final int stationCount;
+    private final int[] distanceCosts;
+    private final int[] distanceNextEdges;
+    private final int[] durationCosts;
+    private final int[] durationNextEdges;
+
+    private AllPairsPathTable(SubwayGraph graph) {
+        this.graph = graph;
+        this.stationCount = graph.getStationCount();
+        int cells = Math.multiplyExact(stationCount, stationCount);
+        this.distanceCosts = new int[cells];
+        this.distanceNextEdges = new int[cells];
+        this.durationCosts = new int[cells];
+        this.durationNextEdges = new int[cells];
+    }
+
+    /**
+     * 도착역마다 다익스트라를 한 번씩 돌려 행을 채운다. 행끼리는 겹치지 않으므로 fork-join으로 나눠 채운다.
+     */
+    static AllPairsPathTable build(SubwayGraph graph, ForkJoinPool pool) {
+        AllPairsPathTable table = new AllPairsPathTable(graph);
+        pool.invoke(table.new FillRows(0, table.stationCount));
+        return table;
+    }
+
+    Optional<ShortestPath> findPath(int source, int target, PathType type) {
+        int[] costs = type == PathType.DURATION ? durationCosts : distanceCosts;
+        int[] nextEdges = type == PathType.DURATION ? durationNextEdges : distanceNextEdges;
+        int row = target * stationCount;
+        if (costs[row + source] < 0) {
+            return Optional.empty();
+        }
+
+        int length = 1;
+        for (int vertex = source; vertex != target; vertex = graph.getTarget(nextEdges[row + vertex])) {
+            length++;
+        }
+        int[] vertices = new int[length];
+        int distance = 0;
+        int duration = 0;
+        int vertex = source;
+        for (int index = 0; index < length - 1; index++) {
+            int edge = nextEdges[row + vertex];
+            vertices[index] = vertex;
+            distance += graph.getDistance(edge);
+            duration += graph.getDuration(edge);
+            vertex = graph.getTarget(edge);
+        }
+        vertices[length - 1] = target;
+        return Optional.of(new ShortestPath(graph, vertices, distance, duration));
+    }
+
+    long getBytes() {
+        return 4L * (distanceCosts.length + distanceNextEdges.length + durationCosts.length + durationNextEdges.length);
+    }
+
+    private final class FillRows extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        private FillRows(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > ROWS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new FillRows(from, middle), new FillRows(middle, to));
+                return;
+            }
+            for (int root = from; root < to; root++) {
+                int rowOffset = root * stationCount;
+                graph.fillRow(root, PathType.DISTANCE, distanceCosts, distanceNextEdges, rowOffset);
+                graph.fillRow(root, PathType.DURATION, durationCosts, durationNextEdges, rowOffset);
+            }
+        }
+    }
+}
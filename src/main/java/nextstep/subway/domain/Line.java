@@ -0,0 +1,57 @@
+package nextstep.subway.domain;
+
+import javax.persistence.*;
+import java.util.List;
+
+@Entity
+public class Line {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(length = 20, nullable = false, unique = true)
+    private String name;
+    private String color;
+    @Embedded
+    private Sections sections = new Sections();
+
+    public Line() {
+    }
+
+    public Line(String name, String color) {
+        this.name = name;
+        this.color = color;
+    }
+
+    public void update(String name, String color) {
+        this.name = name;
+        this.color = color;
+    }
+
+    public void addSection(Station upStation, Station downStation, int distance, int duration) {
+        sections.add(new Section(this, upStation, downStation, distance, duration));
+    }
+
+    public void removeStation(Station station) {
+        sections.remove(station);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public List<Station> getStations() {
+        return sections.getStations();
+    }
+
+    public List<Section> getSections() {
+        return sections.getSections();
+    }
+}
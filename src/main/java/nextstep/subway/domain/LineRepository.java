@@ -0,0 +1,16 @@
+package nextstep.subway.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface LineRepository extends JpaRepository<Line, Long> {
+    @Query("select distinct l from Line l left join fetch l.sections.sections s left join fetch s.upStation left join fetch s.downStation")
+    List<Line> findAllWithStations();
+
+    @Query("select distinct l from Line l left join fetch l.sections.sections s left join fetch s.upStation left join fetch s.downStation where l.id = :id")
+    Optional<Line> findByIdWithStations(@Param("id") Long id);
+}
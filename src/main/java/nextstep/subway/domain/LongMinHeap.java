@@ -0,0 +1,59 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+
+/**
+ * long 값만 담는 이진 최소 힙. 비우고 다시 써도 배열을 새로 잡지 않는다.
+ */
+final class LongMinHeap {
+    private long[] values;
+    private int size;
+
+    LongMinHeap(int initialCapacity) {
+        this.values = new long[Math.max(16, initialCapacity)];
+    }
+
+    void push(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (values[parent] <= value) {
+                break;
+            }
+            values[index] = values[parent];
+            index = parent;
+        }
+        values[index] = value;
+    }
+
+    long poll() {
+        long top = values[0];
+        long last = values[--size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && values[child + 1] < values[child]) {
+                child++;
+            }
+            if (last <= values[child]) {
+                break;
+            }
+            values[index] = values[child];
+            index = child;
+        }
+        values[index] = last;
+        return top;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,6 @@
+package nextstep.subway.domain;
+
+public enum PathType {
+    DISTANCE,
+    DURATION
+}
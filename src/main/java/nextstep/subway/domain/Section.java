@@ -0,0 +1,97 @@
+package nextstep.subway.domain;
+
+import javax.persistence.*;
+
+@Entity
+public class Section {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "line_id")
+    private Line line;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "up_station_id")
+    private Station upStation;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "down_station_id")
+    private Station downStation;
+    private int distance;
+    private int duration;
+
+    public Section() {
+    }
+
+    public Section(Line line, Station upStation, Station downStation, int distance, int duration) {
+        if (distance <= 0 || duration <= 0) {
+            throw new IllegalArgumentException("구간 거리와 소요 시간은 0보다 커야 합니다");
+        }
+        if (upStation.equals(downStation)) {
+            throw new IllegalArgumentException("상행역과 하행역은 같을 수 없습니다");
+        }
+        this.line = line;
+        this.upStation = upStation;
+        this.downStation = downStation;
+        this.distance = distance;
+        this.duration = duration;
+    }
+
+    /**
+     * 이 구간의 앞부분을 inserted가 차지하고 남은 뒷부분으로 줄인다
+     */
+    void shrinkFront(Section inserted) {
+        checkShrinkable(inserted);
+        this.upStation = inserted.downStation;
+        this.distance -= inserted.distance;
+        this.duration -= inserted.duration;
+    }
+
+    /**
+     * 이 구간의 뒷부분을 inserted가 차지하고 남은 앞부분으로 줄인다
+     */
+    void shrinkBack(Section inserted) {
+        checkShrinkable(inserted);
+        this.downStation = inserted.upStation;
+        this.distance -= inserted.distance;
+        this.duration -= inserted.duration;
+    }
+
+    /**
+     * 바로 뒤에 이어진 구간을 합친다
+     */
+    void extend(Section next) {
+        this.downStation = next.downStation;
+        this.distance += next.distance;
+        this.duration += next.duration;
+    }
+
+    private void checkShrinkable(Section inserted) {
+        if (inserted.distance >= distance || inserted.duration >= duration) {
+            throw new IllegalArgumentException("기존 구간 사이에 넣는 구간은 기존 구간보다 짧아야 합니다");
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Line getLine() {
+        return line;
+    }
+
+    public Station getUpStation() {
+        return upStation;
+    }
+
+    public Station getDownStation() {
+        return downStation;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,13 @@
+package nextstep.subway.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface SectionRepository extends JpaRepository<Section, Long> {
+    @Query("select s from Section s join fetch s.upStation join fetch s.downStation")
+    List<Section> findAllWithStations();
+
+    boolean existsByUpStationIdOrDownStationId(Long upStationId, Long downStationId);
+}
@@ -0,0 +1,105 @@
+package nextstep.subway.domain;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Embeddable;
+import javax.persistence.OneToMany;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Embeddable
+public class Sections {
+    @OneToMany(mappedBy = "line", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<Section> sections = new ArrayList<>();
+
+    public void add(Section section) {
+        if (sections.isEmpty()) {
+            sections.add(section);
+            return;
+        }
+
+        boolean upExists = contains(section.getUpStation());
+        boolean downExists = contains(section.getDownStation());
+        if (upExists && downExists) {
+            throw new IllegalArgumentException("이미 노선에 있는 두 역을 잇는 구간은 추가할 수 없습니다");
+        }
+        if (!upExists && !downExists) {
+            throw new IllegalArgumentException("노선에 있는 역과 이어지지 않는 구간은 추가할 수 없습니다");
+        }
+
+        if (upExists) {
+            findByUpStation(section.getUpStation()).ifPresent(it -> it.shrinkFront(section));
+        } else {
+            findByDownStation(section.getDownStation()).ifPresent(it -> it.shrinkBack(section));
+        }
+        sections.add(section);
+    }
+
+    /**
+     * 역을 노선에서 뺀다. 가운데 역이면 앞뒤 구간을 하나로 합친다.
+     */
+    public void remove(Station station) {
+        if (sections.size() <= 1) {
+            throw new IllegalArgumentException("구간이 하나뿐인 노선에서는 역을 뺄 수 없습니다");
+        }
+
+        Optional<Section> upper = findByDownStation(station);
+        Optional<Section> lower = findByUpStation(station);
+        if (upper.isEmpty() && lower.isEmpty()) {
+            throw new IllegalArgumentException("노선에 없는 역입니다");
+        }
+        if (upper.isPresent() && lower.isPresent()) {
+            upper.get().extend(lower.get());
+        }
+        sections.remove(lower.orElseGet(upper::get));
+    }
+
+    /**
+     * 상행 종점부터 하행 종점까지 순서대로 늘어놓은 역
+     */
+    public List<Station> getStations() {
+        if (sections.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Station, Section> byUpStation = new HashMap<>();
+        Set<Station> downStations = new HashSet<>();
+        for (Section section : sections) {
+            byUpStation.put(section.getUpStation(), section);
+            downStations.add(section.getDownStation());
+        }
+
+        Station station = sections.stream()
+                .map(Section::getUpStation)
+                .filter(it -> !downStations.contains(it))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        List<Station> stations = new ArrayList<>(sections.size() + 1);
+        stations.add(station);
+        for (Section section = byUpStation.get(station); section != null; section = byUpStation.get(section.getDownStation())) {
+            stations.add(section.getDownStation());
+        }
+        return stations;
+    }
+
+    public List<Section> getSections() {
+        return Collections.unmodifiableList(sections);
+    }
+
+    private boolean contains(Station station) {
+        return sections.stream().anyMatch(it -> it.getUpStation().equals(station) || it.getDownStation().equals(station));
+    }
+
+    private Optional<Section> findByUpStation(Station station) {
+        return sections.stream().filter(it -> it.getUpStation().equals(station)).findFirst();
+    }
+
+    private Optional<Section> findByDownStation(Station station) {
+        return sections.stream().filter(it -> it.getDownStation().equals(station)).findFirst();
+    }
+}
@@ -0,0 +1,42 @@
+package nextstep.subway.domain;
+
+/**
+ * 경로 탐색 결과. 역은 탐색한 그래프의 정점 번호로 가지고 있다.
+ */
+public class ShortestPath {
+    private final SubwayGraph graph;
+    private final int[] vertices;
+    private final int distance;
+    private final int duration;
+
+    ShortestPath(SubwayGraph graph, int[] vertices, int distance, int duration) {
+        this.graph = graph;
+        this.vertices = vertices;
+        this.distance = distance;
+        this.duration = duration;
+    }
+
+    public int size() {
+        return vertices.length;
+    }
+
+    public long getStationId(int index) {
+        return graph.getStationId(vertices[index]);
+    }
+
+    public String getStationName(int index) {
+        return graph.getStationName(vertices[index]);
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public long getGeneration() {
+        return graph.getGeneration();
+    }
+}
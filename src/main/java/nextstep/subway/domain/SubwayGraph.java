@@ -0,0 +1,343 @@
+package nextstep.subway.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 지하철 노선망을 압축 희소 행(CSR) 형태의 원시 배열로 굳힌 불변 그래프.
+ * 정점 v의 이웃은 targets[offsets[v]]부터 targets[offsets[v + 1] - 1]까지이고, 구간은 양방향 간선 두 개로 들어간다.
+ * 탐색은 스레드마다 재사용하는 작업 공간과 long 힙으로 하므로 탐색 중에 객체를 거의 만들지 않는다.
+ */
+public final class SubwayGraph {
+    private static final int VERTEX_BITS = 20;
+    private static final long VERTEX_MASK = (1L << VERTEX_BITS) - 1;
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+    private final long generation;
+    private final long[] stationIds;
+    private final String[] stationNames;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] distances;
+    private final int[] durations;
+    private final int[] reverseEdges;
+    private final AllPairsPathTable allPairs;
+
+    private SubwayGraph(long generation, long[] stationIds, String[] stationNames, int[] offsets, int[] targets,
+                        int[] distances, int[] durations, int[] reverseEdges, AllPairsPathTable allPairs) {
+        this.generation = generation;
+        this.stationIds = stationIds;
+        this.stationNames = stationNames;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.distances = distances;
+        this.durations = durations;
+        this.reverseEdges = reverseEdges;
+        this.allPairs = allPairs;
+    }
+
+    public static SubwayGraph of(long generation, List<Section> sections) {
+        Builder builder = new Builder(sections.size());
+        for (Section section : sections) {
+            builder.addSection(section.getUpStation().getId(), section.getUpStation().getName(),
+                    section.getDownStation().getId(), section.getDownStation().getName(),
+                    section.getDistance(), section.getDuration());
+        }
+        return builder.build(generation);
+    }
+
+    public static Builder builder(int expectedSections) {
+        return new Builder(expectedSections);
+    }
+
+    /**
+     * 두 역 사이의 최단 경로. 그래프에 없는 역이거나 이어지지 않으면 비어 있다.
+     */
+    public Optional<ShortestPath> findPath(long sourceId, long targetId, PathType type) {
+        int source = indexOf(sourceId);
+        int target = indexOf(targetId);
+        if (source < 0 || target < 0) {
+            return Optional.empty();
+        }
+
+        if (allPairs != null) {
+            return allPairs.findPath(source, target, type);
+        }
+
+        Workspace workspace = WORKSPACE.get();
+        search(source, target, weightsOf(type), workspace);
+        int stamp = workspace.stamp;
+        int[] seen = workspace.seen;
+        int[] previousVertices = workspace.previousVertices;
+        int[] previousEdges = workspace.previousEdges;
+
+        if (seen[target] != stamp) {
+            return Optional.empty();
+        }
+        int length = 1;
+        for (int vertex = target; vertex != source; vertex = previousVertices[vertex]) {
+            length++;
+        }
+        int[] vertices = new int[length];
+        int distance = 0;
+        int duration = 0;
+        for (int vertex = target, index = length - 1; index >= 0; vertex = previousVertices[vertex], index--) {
+            vertices[index] = vertex;
+            if (vertex != source) {
+                distance += distances[previousEdges[vertex]];
+                duration += durations[previousEdges[vertex]];
+            }
+        }
+        return Optional.of(new ShortestPath(this, vertices, distance, duration));
+    }
+
+    /**
+     * 모든 역 쌍의 경로표를 미리 만들어 붙인 같은 그래프. 이후 경로 탐색은 표를 따라가기만 한다.
+     */
+    public SubwayGraph withAllPairs(ForkJoinPool pool) {
+        if (allPairs != null) {
+            return this;
+        }
+        return new SubwayGraph(generation, stationIds, stationNames, offsets, targets, distances, durations, reverseEdges,
+                AllPairsPathTable.build(this, pool));
+    }
+
+    public boolean hasAllPairs() {
+        return allPairs != null;
+    }
+
+    /**
+     * 미리 만든 경로표가 차지하는 바이트 수. 표가 없으면 0이다.
+     */
+    public long getAllPairsBytes() {
+        return allPairs == null ? 0 : allPairs.getBytes();
+    }
+
+    public boolean contains(long stationId) {
+        return indexOf(stationId) >= 0;
+    }
+
+    public int getStationCount() {
+        return stationIds.length;
+    }
+
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    int getTarget(int edge) {
+        return targets[edge];
+    }
+
+    int getDistance(int edge) {
+        return distances[edge];
+    }
+
+    int getDuration(int edge) {
+        return durations[edge];
+    }
+
+    /**
+     * root에서 모든 역까지 탐색해, 각 역에서 root 쪽으로 가는 첫 간선과 root까지의 비용을 한 행에 적는다.
+     * 구간은 양방향이므로 root에서 v로 오는 마지막 간선을 뒤집으면 v에서 root로 가는 첫 간선이 된다.
+     */
+    void fillRow(int root, PathType type, int[] costs, int[] nextEdges, int rowOffset) {
+        Workspace workspace = WORKSPACE.get();
+        search(root, -1, weightsOf(type), workspace);
+        for (int vertex = 0; vertex < stationIds.length; vertex++) {
+            int index = rowOffset + vertex;
+            if (workspace.seen[vertex] != workspace.stamp) {
+                costs[index] = -1;
+                nextEdges[index] = -1;
+            } else {
+                costs[index] = (int) Math.min(workspace.costs[vertex], Integer.MAX_VALUE);
+                nextEdges[index] = vertex == root ? -1 : reverseEdges[workspace.previousEdges[vertex]];
+            }
+        }
+    }
+
+    long getStationId(int vertex) {
+        return stationIds[vertex];
+    }
+
+    String getStationName(int vertex) {
+        return stationNames[vertex];
+    }
+
+    /**
+     * source에서 다익스트라로 탐색한다. target에 닿으면 멈추고, target이 음수면 모든 역까지 탐색한다.
+     */
+    private void search(int source, int target, int[] weights, Workspace workspace) {
+        workspace.prepare(stationIds.length);
+        int stamp = workspace.stamp;
+        int[] seen = workspace.seen;
+        long[] costs = workspace.costs;
+        int[] previousVertices = workspace.previousVertices;
+        int[] previousEdges = workspace.previousEdges;
+        LongMinHeap heap = workspace.heap;
+
+        seen[source] = stamp;
+        costs[source] = 0;
+        previousVertices[source] = -1;
+        heap.push(source);
+        while (!heap.isEmpty()) {
+            long top = heap.poll();
+            int vertex = (int) (top & VERTEX_MASK);
+            long cost = top >>> VERTEX_BITS;
+            if (cost > costs[vertex]) {
+                continue;
+            }
+            if (vertex == target) {
+                break;
+            }
+            for (int edge = offsets[vertex], end = offsets[vertex + 1]; edge < end; edge++) {
+                int next = targets[edge];
+                long nextCost = cost + weights[edge];
+                if (seen[next] != stamp || nextCost < costs[next]) {
+                    seen[next] = stamp;
+                    costs[next] = nextCost;
+                    previousVertices[next] = vertex;
+                    previousEdges[next] = edge;
+                    heap.push(nextCost << VERTEX_BITS | next);
+                }
+            }
+        }
+    }
+
+    private int[] weightsOf(PathType type) {
+        return type == PathType.DURATION ? durations : distances;
+    }
+
+    private int indexOf(long stationId) {
+        int index = Arrays.binarySearch(stationIds, stationId);
+        return index < 0 ? -1 : index;
+    }
+
+    /**
+     * 구간을 원시 배열에 모았다가 build에서 한 번에 CSR로 바꾼다
+     */
+    public static final class Builder {
+        private long[] upIds;
+        private long[] downIds;
+        private String[] upNames;
+        private String[] downNames;
+        private int[] sectionDistances;
+        private int[] sectionDurations;
+        private int size;
+
+        private Builder(int expectedSections) {
+            int capacity = Math.max(16, expectedSections);
+            this.upIds = new long[capacity];
+            this.downIds = new long[capacity];
+            this.upNames = new String[capacity];
+            this.downNames = new String[capacity];
+            this.sectionDistances = new int[capacity];
+            this.sectionDurations = new int[capacity];
+        }
+
+        public Builder addSection(long upId, String upName, long downId, String downName, int distance, int duration) {
+            if (size == upIds.length) {
+                int capacity = size * 2;
+                upIds = Arrays.copyOf(upIds, capacity);
+                downIds = Arrays.copyOf(downIds, capacity);
+                upNames = Arrays.copyOf(upNames, capacity);
+                downNames = Arrays.copyOf(downNames, capacity);
+                sectionDistances = Arrays.copyOf(sectionDistances, capacity);
+                sectionDurations = Arrays.copyOf(sectionDurations, capacity);
+            }
+            upIds[size] = upId;
+            downIds[size] = downId;
+            upNames[size] = upName;
+            downNames[size] = downName;
+            sectionDistances[size] = distance;
+            sectionDurations[size] = duration;
+            size++;
+            return this;
+        }
+
+        public SubwayGraph build(long generation) {
+            long[] ids = new long[size * 2];
+            System.arraycopy(upIds, 0, ids, 0, size);
+            System.arraycopy(downIds, 0, ids, size, size);
+            Arrays.sort(ids);
+            int count = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (i == 0 || ids[i] != ids[i - 1]) {
+                    ids[count++] = ids[i];
+                }
+            }
+            long[] stationIds = Arrays.copyOf(ids, count);
+            if (count > VERTEX_MASK) {
+                throw new IllegalStateException("too many stations: " + count);
+            }
+
+            String[] stationNames = new String[count];
+            int[] offsets = new int[count + 1];
+            int[] ups = new int[size];
+            int[] downs = new int[size];
+            for (int i = 0; i < size; i++) {
+                ups[i] = Arrays.binarySearch(stationIds, upIds[i]);
+                downs[i] = Arrays.binarySearch(stationIds, downIds[i]);
+                stationNames[ups[i]] = upNames[i];
+                stationNames[downs[i]] = downNames[i];
+                offsets[ups[i] + 1]++;
+                offsets[downs[i] + 1]++;
+            }
+            for (int v = 0; v < count; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+
+            int[] cursor = Arrays.copyOf(offsets, count);
+            int[] targets = new int[size * 2];
+            int[] distances = new int[size * 2];
+            int[] durations = new int[size * 2];
+            int[] reverseEdges = new int[size * 2];
+            for (int i = 0; i < size; i++) {
+                int forward = cursor[ups[i]]++;
+                targets[forward] = downs[i];
+                distances[forward] = sectionDistances[i];
+                durations[forward] = sectionDurations[i];
+                int backward = cursor[downs[i]]++;
+                targets[backward] = ups[i];
+                distances[backward] = sectionDistances[i];
+                durations[backward] = sectionDurations[i];
+                reverseEdges[forward] = backward;
+                reverseEdges[backward] = forward;
+            }
+            return new SubwayGraph(generation, stationIds, stationNames, offsets, targets, distances, durations, reverseEdges, null);
+        }
+    }
+
+    /**
+     * 탐색 한 번에 쓰는 배열들. 방문 표시를 stamp로 구분해 탐색마다 배열을 비우지 않는다.
+     */
+    private static final class Workspace {
+        private int stamp;
+        private int[] seen = new int[0];
+        private long[] costs = new long[0];
+        private int[] previousVertices = new int[0];
+        private int[] previousEdges = new int[0];
+        private final LongMinHeap heap = new LongMinHeap(64);
+
+        private void prepare(int vertexCount) {
+            if (seen.length < vertexCount) {
+                seen = new int[vertexCount];
+                costs = new long[vertexCount];
+                previousVertices = new int[vertexCount];
+                previousEdges = new int[vertexCount];
+                stamp = 0;
+            }
+            if (++stamp == 0) {
+                Arrays.fill(seen, 0);
+                stamp = 1;
+            }
+            heap.clear();
+        }
+    }
+}
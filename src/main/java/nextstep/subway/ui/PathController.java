@@ -0,0 +1,33 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.application.PathService;
+import nextstep.subway.application.dto.PathResponse;
+import nextstep.subway.domain.PathType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class PathController {
+    private PathService pathService;
+
+    public PathController(PathService pathService) {
+        this.pathService = pathService;
+    }
+
+    @GetMapping("/paths")
+    public ResponseEntity<PathResponse> findPath(
+            @RequestParam Long source,
+            @RequestParam Long target,
+            @RequestParam(defaultValue = "DISTANCE") PathType type
+    ) {
+        return ResponseEntity.ok(pathService.findPath(source, target, type));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleIllegalArgument() {
+        return ResponseEntity.badRequest().build();
+    }
+}
@@ -0,0 +1,63 @@
+package nextstep.auth.token;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+    private static final String PREVIOUS_SECRET = "atdd-secret-key";
+    private static final String CURRENT_SECRET = "bmV4dC1zZWNyZXQta2V5";
+    private static final long VALIDITY = 3600000;
+    private static final long REFRESH_VALIDITY = 1209600000;
+
+    private final JwtTokenProvider previousProvider = new JwtTokenProvider("atdd-1", PREVIOUS_SECRET, "", VALIDITY, REFRESH_VALIDITY);
+    private final JwtTokenProvider currentProvider = new JwtTokenProvider("atdd-2", CURRENT_SECRET, "atdd-1:" + PREVIOUS_SECRET, VALIDITY, REFRESH_VALIDITY);
+
+    @DisplayName("키를 교체해도 이전 키로 발급한 토큰은 검증된다")
+    @Test
+    void validateTokenOfPreviousKey() {
+        String token = previousProvider.createToken("admin@email.com", "ROLE_MEMBER");
+
+        assertThat(currentProvider.validateToken(token)).isTrue();
+        assertThat(currentProvider.getPrincipal(token)).isEqualTo("admin@email.com");
+    }
+
+    @DisplayName("목록에서 빠진 키로 발급한 토큰은 검증되지 않는다")
+    @Test
+    void validateTokenOfRemovedKey() {
+        String token = currentProvider.createToken("admin@email.com", "ROLE_MEMBER");
+
+        assertThat(previousProvider.validateToken(token)).isFalse();
+    }
+
+    @DisplayName("kid가 없는 토큰은 현재 키로 검증한다")
+    @Test
+    void validateTokenWithoutKeyId() {
+        String token = Jwts.builder()
+                .setSubject("admin@email.com")
+                .setExpiration(new Date(System.currentTimeMillis() + VALIDITY))
+                .signWith(SignatureAlgorithm.HS256, CURRENT_SECRET)
+                .compact();
+
+        assertThat(currentProvider.validateToken(token)).isTrue();
+        assertThat(previousProvider.validateToken(token)).isFalse();
+    }
+
+    @DisplayName("HS256이 아닌 알고리즘으로 서명한 토큰은 검증되지 않는다")
+    @Test
+    void validateTokenOfOtherAlgorithm() {
+        String token = Jwts.builder()
+                .setHeaderParam("kid", "atdd-2")
+                .setSubject("admin@email.com")
+                .setExpiration(new Date(System.currentTimeMillis() + VALIDITY))
+                .signWith(SignatureAlgorithm.HS512, CURRENT_SECRET)
+                .compact();
+
+        assertThat(currentProvider.validateToken(token)).isFalse();
+    }
+}
@@ -0,0 +1,83 @@
+package nextstep.auth.token.oauth2.github;
+
+import nextstep.auth.ServiceUnavailableException;
+import nextstep.common.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GithubProfileLoaderTest {
+    private static final String CODE = "code";
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @DisplayName("먼저 간 교환이 Error로 끝나도 기다리던 요청은 같은 Error를 받고 다음 요청은 새로 교환한다")
+    @Test
+    void failWaitersOnError() throws Exception {
+        AssertionError failure = new AssertionError("github");
+        GithubProfileLoader loader = new GithubProfileLoader(failingClient(failure), 5000, 1000, 1000, 1000);
+
+        Future<GithubProfileResponse> leader = executor.submit(() -> loader.load(CODE));
+        await(() -> loader.getExchangeCount() == 1);
+        Future<GithubProfileResponse> waiter = executor.submit(() -> loader.load(CODE));
+        await(() -> loader.getCoalescedCount() == 1);
+        release.countDown();
+
+        assertThatThrownBy(leader::get).isInstanceOf(ExecutionException.class).hasCause(failure);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasCause(failure);
+
+        assertThatThrownBy(() -> loader.load(CODE)).isSameAs(failure);
+        assertThat(loader.getExchangeCount()).isEqualTo(2);
+    }
+
+    @DisplayName("먼저 간 교환이 끝나지 않으면 기다리던 요청은 HTTP 타임아웃만큼만 기다린다")
+    @Test
+    void boundWaitByHttpTimeout() throws Exception {
+        GithubProfileLoader loader = new GithubProfileLoader(failingClient(new AssertionError()), 5000, 10, 10, 10);
+
+        executor.submit(() -> loader.load(CODE));
+        await(() -> loader.getExchangeCount() == 1);
+
+        assertThatThrownBy(() -> loader.load(CODE)).isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private GithubClient failingClient(Error failure) {
+        return new GithubClient(null, new MetricsRegistry()) {
+            @Override
+            public String getAccessTokenFromGithub(String code) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw failure;
+            }
+        };
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
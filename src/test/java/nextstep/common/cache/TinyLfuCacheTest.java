@@ -0,0 +1,52 @@
+package nextstep.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TinyLfuCacheTest {
+    @DisplayName("세대가 바뀌면 이전 세대에 넣은 항목은 없는 것으로 본다")
+    @Test
+    void generation() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(100);
+        cache.put("강남-양재", "경로", 1);
+
+        assertThat(cache.get("강남-양재", 1)).isEqualTo("경로");
+        assertThat(cache.get("강남-양재", 2)).isNull();
+        assertThat(cache.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @DisplayName("한 번 스치고 마는 키가 쏟아져도 자주 쓰는 키는 캐시에 남는다")
+    @Test
+    void admission() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(64);
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < 32; key++) {
+                getOrPut(cache, key);
+            }
+        }
+
+        for (int key = 10_000; key < 20_000; key++) {
+            getOrPut(cache, key);
+            if (key % 2 == 0) {
+                getOrPut(cache, key / 2 % 32);
+            }
+        }
+
+        int hotKeys = 0;
+        for (int key = 0; key < 32; key++) {
+            if (cache.get(key, 1) != null) {
+                hotKeys++;
+            }
+        }
+        assertThat(hotKeys).isGreaterThanOrEqualTo(30);
+        assertThat(cache.getRejectionCount()).isPositive();
+    }
+
+    private static void getOrPut(TinyLfuCache<Integer, Integer> cache, int key) {
+        if (cache.get(key, 1) == null) {
+            cache.put(key, key, 1);
+        }
+    }
+}
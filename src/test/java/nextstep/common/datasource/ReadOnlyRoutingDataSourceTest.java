@@ -0,0 +1,49 @@
+package nextstep.common.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadOnlyRoutingDataSourceTest {
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica";
+
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서, 쓰기 트랜잭션은 원본에서 커넥션을 꺼낸다")
+    @Test
+    void route() {
+        DataSource primary = new DriverManagerDataSource(PRIMARY_URL);
+        ReadOnlyRoutingDataSource routingDataSource = new ReadOnlyRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadOnlyRoutingDataSource.PRIMARY, primary,
+                ReadOnlyRoutingDataSource.REPLICA, new DriverManagerDataSource(REPLICA_URL)
+        ));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        transactionTemplate.setReadOnly(true);
+        String readUrl = transactionTemplate.execute(status -> connectedUrl(jdbcTemplate));
+        transactionTemplate.setReadOnly(false);
+        String writeUrl = transactionTemplate.execute(status -> connectedUrl(jdbcTemplate));
+
+        assertThat(readUrl).isEqualTo(REPLICA_URL);
+        assertThat(writeUrl).isEqualTo(PRIMARY_URL);
+    }
+
+    private String connectedUrl(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.execute((Connection connection) -> connection.getMetaData().getURL());
+    }
+}
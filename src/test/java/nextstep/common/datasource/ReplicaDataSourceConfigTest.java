@@ -0,0 +1,55 @@
+package nextstep.common.datasource;
+
+import nextstep.utils.AcceptanceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 테스트 프로필의 복제본은 SELECT 권한만 있는 replica 계정으로 붙으므로, 복제본으로 잘못 간 쓰기는 바로 실패한다
+ */
+class ReplicaDataSourceConfigTest extends AcceptanceTest {
+    private static final String REPLICA_USER = "REPLICA";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("읽기 전용 트랜잭션은 복제본 계정으로, 쓰기 트랜잭션은 원본 계정으로 실행한다")
+    @Test
+    void routeByReadOnly() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        String readUser = readOnly.execute(status -> currentUser());
+        String writeUser = readWrite.execute(status -> currentUser());
+
+        assertThat(readUser).isEqualTo(REPLICA_USER);
+        assertThat(writeUser).isNotEqualTo(REPLICA_USER);
+    }
+
+    @DisplayName("복제본으로 간 쓰기는 실패한다")
+    @Test
+    void rejectWriteOnReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        assertThatThrownBy(() -> readOnly.executeWithoutResult(status ->
+                jdbcTemplate.update("insert into station (name) values ('강남역')")))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("Not enough rights");
+    }
+
+    private String currentUser() {
+        return jdbcTemplate.queryForObject("select current_user", String.class);
+    }
+}
@@ -0,0 +1,47 @@
+package nextstep.common.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCountingDataSourceTest {
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new QueryCountingDataSource(new DriverManagerDataSource("jdbc:h2:mem:query-counting;DB_CLOSE_DELAY=-1")));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("create sequence if not exists item_seq");
+        jdbcTemplate.execute("create table if not exists item (id bigint primary key, name varchar(255) unique)");
+        QueryCounter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+        jdbcTemplate.execute("drop table item");
+        jdbcTemplate.execute("drop sequence item_seq");
+    }
+
+    @DisplayName("시퀀스 값만 꺼내는 문장은 세지 않는다")
+    @Test
+    void skipSequenceFetch() {
+        jdbcTemplate.queryForObject("call next value for item_seq", Long.class, new Object[0]);
+        jdbcTemplate.queryForObject("select next value for item_seq", Long.class, new Object[0]);
+
+        assertThat(QueryCounter.current()).isZero();
+    }
+
+    @DisplayName("시퀀스를 부르는 MERGE는 한 번의 왕복으로 센다")
+    @Test
+    void countMergeWithSequence() {
+        jdbcTemplate.update("MERGE INTO item i USING (VALUES (CAST(? AS VARCHAR(255)))) s(name) ON i.name = s.name "
+                + "WHEN NOT MATCHED THEN INSERT (id, name) VALUES (NEXT VALUE FOR item_seq, s.name)", "station");
+
+        assertThat(QueryCounter.current()).isEqualTo(1);
+    }
+}
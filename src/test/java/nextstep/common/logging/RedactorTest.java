@@ -0,0 +1,34 @@
+package nextstep.common.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedactorTest {
+    @DisplayName("요청과 응답 본문의 비밀번호와 토큰은 가려진다")
+    @Test
+    void redactBody() {
+        String request = "{\"email\":\"admin@email.com\",\"password\":\"p\\\"ss\"}";
+        String response = "{\"accessToken\": \"a.b.c\",\"refreshToken\":\"d.e.f\"}";
+
+        assertThat(Redactor.redactBody("application/json", request)).isEqualTo("{\"email\":\"admin@email.com\",\"password\":\"****\"}");
+        assertThat(Redactor.redactBody("application/json;charset=UTF-8", response)).isEqualTo("{\"accessToken\": \"****\",\"refreshToken\":\"****\"}");
+    }
+
+    @DisplayName("JSON이 아닌 본문은 비밀 값이 섞여 있을 수 있어 남기지 않는다")
+    @Test
+    void omitNonJsonBody() {
+        String csv = "email,password,age\nadmin@email.com,secret,20\n";
+
+        assertThat(Redactor.redactBody("text/csv", csv)).isEqualTo("[45 chars of text/csv omitted]");
+        assertThat(Redactor.redactBody(null, "password=secret")).doesNotContain("secret");
+    }
+
+    @DisplayName("인증 헤더는 가려지고 나머지 헤더는 그대로 남는다")
+    @Test
+    void redactHeader() {
+        assertThat(Redactor.redactHeader("authorization", "Bearer a.b.c")).isEqualTo("****");
+        assertThat(Redactor.redactHeader("Content-Type", "application/json")).isEqualTo("application/json");
+    }
+}
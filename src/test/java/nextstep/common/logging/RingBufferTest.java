@@ -0,0 +1,46 @@
+package nextstep.common.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferTest {
+    @DisplayName("가득 찬 버퍼는 기다리지 않고 거절하고, 비우면 다시 받는다")
+    @Test
+    void offerWhenFull() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.poll()).isZero();
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.poll()).isEqualTo(1);
+    }
+
+    @DisplayName("여러 스레드가 넣은 이벤트를 하나도 잃지 않는다")
+    @Test
+    void concurrentOffer() throws InterruptedException {
+        RingBuffer<Integer> buffer = new RingBuffer<>(1 << 14);
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    buffer.offer(i);
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        int count = 0;
+        while (buffer.poll() != null) {
+            count++;
+        }
+        assertThat(count).isEqualTo(8_000);
+    }
+}
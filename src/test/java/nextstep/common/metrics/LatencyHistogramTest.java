@@ -0,0 +1,34 @@
+package nextstep.common.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+    @DisplayName("분위수는 실제 값과 6.25% 이내로 맞는다")
+    @Test
+    void quantile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(10_000);
+        assertThat((double) histogram.quantileNanos(0.5)).isCloseTo(5_000_000, within(5_000_000 * 0.0625));
+        assertThat((double) histogram.quantileNanos(0.99)).isCloseTo(9_900_000, within(9_900_000 * 0.0625));
+        assertThat((double) histogram.quantileNanos(0.999)).isCloseTo(9_990_000, within(9_990_000 * 0.0625));
+    }
+
+    @DisplayName("버킷 경계는 값의 구간을 빈틈없이 나눈다")
+    @Test
+    void bucketBounds() {
+        for (long value : new long[]{0, 7, 8, 15, 16, 1_000, 123_456_789, 1L << 40}) {
+            int index = LatencyHistogram.indexOf(value);
+
+            assertThat(LatencyHistogram.lowerBoundOf(index)).isLessThanOrEqualTo(value);
+            assertThat(LatencyHistogram.lowerBoundOf(index + 1)).isGreaterThan(value);
+        }
+    }
+}
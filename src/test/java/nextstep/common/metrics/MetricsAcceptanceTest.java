@@ -0,0 +1,59 @@
+package nextstep.common.metrics;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.utils.AcceptanceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static nextstep.member.acceptance.MemberSteps.베어러_인증_로그인_요청;
+import static nextstep.member.acceptance.MemberSteps.회원_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsAcceptanceTest extends AcceptanceTest {
+    private static final String EMAIL = "metrics@email.com";
+    private static final String PASSWORD = "password";
+    private static final String METRICS_TOKEN = "metrics-token";
+
+    @DisplayName("로그인과 리포지토리 조회 지연 시간을 Prometheus 텍스트 형식으로 조회한다")
+    @Test
+    void scrape() {
+        회원_생성_요청(EMAIL, PASSWORD, 20);
+        베어러_인증_로그인_요청(EMAIL, PASSWORD);
+        베어러_인증_로그인_요청(EMAIL, "wrong" + PASSWORD);
+
+        var response = 지표_조회_요청(METRICS_TOKEN);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith("text/plain").contains("version=0.0.4");
+        assertThat(response.asString())
+                .contains("# TYPE auth_token_issue_seconds summary")
+                .contains("auth_token_issue_seconds{grant=\"password\",quantile=\"0.99\"}")
+                .contains("auth_token_issue_seconds_count{grant=\"password\"}")
+                .contains("auth_login_failures_total{grant=\"password\"}")
+                .contains("repository_query_seconds{repository=\"MemberRepository\",method=\"findByEmail\",quantile=\"0.5\"}")
+                .contains("github_connections{state=\"leased\"}")
+                .contains("principal_cache_hits_total");
+    }
+
+    @DisplayName("지표 토큰이 없거나 틀리면 지표를 조회할 수 없다")
+    @Test
+    void scrapeWithoutToken() {
+        var anonymousResponse = RestAssured.given().log().all()
+                .when().get("/internal/metrics")
+                .then().log().all().extract();
+        var wrongTokenResponse = 지표_조회_요청("wrong-" + METRICS_TOKEN);
+
+        assertThat(anonymousResponse.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(wrongTokenResponse.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    private static ExtractableResponse<Response> 지표_조회_요청(String token) {
+        return RestAssured.given().log().all()
+                .auth().oauth2(token)
+                .when().get("/internal/metrics")
+                .then().log().all().extract();
+    }
+}
@@ -0,0 +1,55 @@
+package nextstep.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+    private final AtomicLong now = new AtomicLong();
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 60, 100, now::get);
+
+    @DisplayName("용량만큼 몰아서 쓰면 다음 토큰이 찰 때까지 거절한다")
+    @Test
+    void burst() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("key")).isZero();
+        }
+
+        assertThat(limiter.tryAcquire("key")).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire("other")).isZero();
+        assertThat(limiter.getRejectionCount()).isEqualTo(1);
+    }
+
+    @DisplayName("토큰은 시간이 지나면 용량까지만 다시 찬다")
+    @Test
+    void refill() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("key");
+        }
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isPositive();
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(10));
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("key")).isZero();
+        }
+        assertThat(limiter.tryAcquire("key")).isPositive();
+    }
+
+    @DisplayName("가득 찬 버킷은 주기적으로 지운다")
+    @Test
+    void purgeIdleBuckets() {
+        limiter.tryAcquire("key");
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        limiter.tryAcquire("other");
+
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}
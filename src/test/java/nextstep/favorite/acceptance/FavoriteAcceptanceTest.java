@@ -0,0 +1,210 @@
+package nextstep.favorite.acceptance;
+
+import io.restassured.RestAssured;
+import nextstep.auth.AuthenticationException;
+import nextstep.favorite.application.FavoriteService;
+import nextstep.favorite.application.dto.FavoriteRequest;
+import nextstep.favorite.domain.FavoriteRepository;
+import nextstep.utils.AcceptanceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+
+import static nextstep.favorite.acceptance.FavoriteSteps.*;
+import static nextstep.member.acceptance.MemberSteps.베어러_인증_로그인_요청;
+import static nextstep.member.acceptance.MemberSteps.회원_삭제_요청;
+import static nextstep.member.acceptance.MemberSteps.회원_생성_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_삭제_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성됨;
+import static nextstep.subway.acceptance.StationSteps.지하철역_삭제_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성됨;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("즐겨찾기 관리")
+class FavoriteAcceptanceTest extends AcceptanceTest {
+    private static final String EMAIL = "favorite@email.com";
+    private static final String OTHER_EMAIL = "other@email.com";
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private FavoriteService favoriteService;
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+
+    private Long 교대역;
+    private Long 강남역;
+    private Long 양재역;
+    private String accessToken;
+
+    /**
+     * 교대역 --- *2호선* --- 강남역 --- *신분당선* --- 양재역
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        교대역 = 지하철역_생성됨("교대역");
+        강남역 = 지하철역_생성됨("강남역");
+        양재역 = 지하철역_생성됨("양재역");
+        지하철_노선_생성됨("2호선", 교대역, 강남역, 10, 2);
+        지하철_노선_생성됨("신분당선", 강남역, 양재역, 10, 3);
+
+        accessToken = 로그인됨(EMAIL);
+    }
+
+    @DisplayName("즐겨찾기를 만든다.")
+    @Test
+    void createFavorite() {
+        // when
+        var response = 즐겨찾기_생성_요청(accessToken, 교대역, 양재역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(response.header("Location")).startsWith("/favorites/");
+        assertThat(response.jsonPath().getString("source.name")).isEqualTo("교대역");
+        assertThat(response.jsonPath().getString("target.name")).isEqualTo("양재역");
+        쿼리_수_검증(response, 2);
+    }
+
+    @DisplayName("같은 역이나 이어지지 않은 역으로는 즐겨찾기를 만들 수 없다.")
+    @Test
+    void createFavoriteWithInvalidStations() {
+        // given
+        Long 정자역 = 지하철역_생성됨("정자역");
+
+        // when
+        var sameStation = 즐겨찾기_생성_요청(accessToken, 교대역, 교대역);
+        var unconnected = 즐겨찾기_생성_요청(accessToken, 교대역, 정자역);
+
+        // then
+        assertThat(sameStation.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(unconnected.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("즐겨찾기 목록에 각 즐겨찾기의 현재 최단 경로를 함께 보여준다.")
+    @Test
+    void findFavoritesWithPath() {
+        // given
+        즐겨찾기_생성_요청(accessToken, 교대역, 양재역);
+        즐겨찾기_생성_요청(accessToken, 강남역, 양재역);
+
+        // when
+        var response = 즐겨찾기_목록_조회_요청(accessToken);
+
+        // then
+        assertThat(response.jsonPath().getList("path.distance", Integer.class)).containsExactly(20, 10);
+        assertThat(response.jsonPath().getList("[0].path.stations.name", String.class)).containsExactly("교대역", "강남역", "양재역");
+    }
+
+    @DisplayName("즐겨찾기가 몇 개이든 목록은 역까지 한 번의 쿼리로 조회한다.")
+    @Test
+    void findFavorites() {
+        // given
+        즐겨찾기_생성_요청(accessToken, 교대역, 양재역);
+        var single = 즐겨찾기_목록_조회_요청(accessToken);
+        즐겨찾기_생성_요청(accessToken, 강남역, 교대역);
+        즐겨찾기_생성_요청(accessToken, 양재역, 강남역);
+        즐겨찾기_생성_요청(로그인됨(OTHER_EMAIL), 교대역, 강남역);
+
+        // when
+        var response = 즐겨찾기_목록_조회_요청(accessToken);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("source.name", String.class)).containsExactly("교대역", "강남역", "양재역");
+        assertThat(response.jsonPath().getList("target.name", String.class)).containsExactly("양재역", "교대역", "강남역");
+        쿼리_수_검증(single, 1);
+        쿼리_수_검증(response, 1);
+    }
+
+    @DisplayName("즐겨찾기를 삭제한다.")
+    @Test
+    void deleteFavorite() {
+        // given
+        var createResponse = 즐겨찾기_생성_요청(accessToken, 교대역, 양재역);
+
+        // when
+        var response = 즐겨찾기_삭제_요청(accessToken, createResponse);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        쿼리_수_검증(response, 1);
+        assertThat(즐겨찾기_목록_조회_요청(accessToken).jsonPath().getList("id")).isEmpty();
+    }
+
+    @DisplayName("다른 회원의 즐겨찾기는 삭제할 수 없다.")
+    @Test
+    void deleteOthersFavorite() {
+        // given
+        var createResponse = 즐겨찾기_생성_요청(accessToken, 교대역, 양재역);
+
+        // when
+        var response = 즐겨찾기_삭제_요청(로그인됨(OTHER_EMAIL), createResponse);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(즐겨찾기_목록_조회_요청(accessToken).jsonPath().getList("id")).hasSize(1);
+    }
+
+    @DisplayName("회원을 삭제하면 그 회원의 즐겨찾기도 함께 삭제된다.")
+    @Test
+    void deleteMemberWithFavorites() {
+        // given
+        var createResponse = 회원_생성_요청(OTHER_EMAIL, PASSWORD, 20);
+        String otherAccessToken = 베어러_인증_로그인_요청(OTHER_EMAIL, PASSWORD).jsonPath().getString("accessToken");
+        즐겨찾기_생성_요청(otherAccessToken, 교대역, 양재역);
+        즐겨찾기_생성_요청(accessToken, 교대역, 양재역);
+
+        // when
+        var response = 회원_삭제_요청(createResponse);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(favoriteRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("다른 인스턴스에서 삭제된 회원의 토큰으로는 즐겨찾기를 만들 수 없다.")
+    @Test
+    void createFavoriteForRemovedMember() {
+        assertThatThrownBy(() -> favoriteService.createFavorite(Long.MAX_VALUE, new FavoriteRequest(교대역, 양재역)))
+                .isInstanceOf(AuthenticationException.class);
+        assertThat(favoriteRepository.findAll()).isEmpty();
+    }
+
+    @DisplayName("즐겨찾기에 남아 있는 역은 노선에서 빠져도 삭제할 수 없다.")
+    @Test
+    void deleteStationInFavorite() {
+        // given
+        Long 서초역 = 지하철역_생성됨("서초역");
+        Long 방배역 = 지하철역_생성됨("방배역");
+        Long 노선 = 지하철_노선_생성됨("2호선 지선", 서초역, 방배역, 10, 2);
+        즐겨찾기_생성_요청(accessToken, 서초역, 방배역);
+        지하철_노선_삭제_요청(노선);
+
+        // when
+        var response = 지하철역_삭제_요청(서초역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(favoriteRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("로그인하지 않으면 즐겨찾기를 다룰 수 없다.")
+    @Test
+    void favoritesWithoutLogin() {
+        // when
+        var response = RestAssured.given().log().all()
+                .when().get("/favorites")
+                .then().log().all().extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    private static String 로그인됨(String email) {
+        회원_생성_요청(email, PASSWORD, 20);
+        return 베어러_인증_로그인_요청(email, PASSWORD).jsonPath().getString("accessToken");
+    }
+}
@@ -0,0 +1,107 @@
+package nextstep.favorite.application;
+
+import nextstep.favorite.application.dto.FavoriteResponse;
+import nextstep.subway.application.PathService;
+import nextstep.subway.application.dto.PathResponse;
+import nextstep.subway.application.dto.StationResponse;
+import nextstep.subway.domain.PathType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 경로 조회는 release가 열릴 때까지 막아 두고, 마감 시각은 시계를 몇 번 읽었는지로 정해 실제 시간에 기대지 않는다.
+ */
+class FavoritePathEnricherTest {
+    private static final long SLOW_STATION = 99L;
+    private static final long NO_PATH_STATION = 0L;
+    private static final long TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final PathService pathService = new PathService(null, null) {
+        @Override
+        public PathResponse findPath(Long source, Long target, PathType type) {
+            if (target == SLOW_STATION) {
+                awaitRelease();
+            }
+            if (target == NO_PATH_STATION) {
+                throw new IllegalArgumentException("두 역을 잇는 경로가 없습니다");
+            }
+            return new PathResponse(List.of(station(source), station(target)), (int) (source + target), 1);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @DisplayName("마감 시각까지 경로를 찾지 못했거나 경로가 없는 즐겨찾기만 경로 없이 돌려준다")
+    @Test
+    void enrichWithDeadline() {
+        FavoritePathEnricher enricher = expiringAfterClockReads(2, 16, 4);
+
+        List<FavoriteResponse> favorites = enricher.enrich(List.of(favorite(1, 2), favorite(4, 5), favorite(6, NO_PATH_STATION), favorite(3, SLOW_STATION)));
+
+        assertThat(favorites.get(0).getPath().getDistance()).isEqualTo(3);
+        assertThat(favorites.get(1).getPath().getDistance()).isEqualTo(9);
+        assertThat(favorites.get(2).getPath()).isNull();
+        assertThat(favorites.get(3).getPath()).isNull();
+        assertThat(enricher.getTimeoutCount()).isEqualTo(1);
+        enricher.shutdown();
+    }
+
+    @DisplayName("큐가 가득 차 맡기지 못한 즐겨찾기는 기다리지 않고 경로 없이 돌려준다")
+    @Test
+    void enrichWhenQueueFull() {
+        FavoritePathEnricher enricher = expiringAfterClockReads(1, 1, 1);
+
+        List<FavoriteResponse> favorites = enricher.enrich(List.of(favorite(1, SLOW_STATION), favorite(2, SLOW_STATION), favorite(4, 5)));
+
+        assertThat(favorites).allMatch(favorite -> favorite.getPath() == null);
+        assertThat(enricher.getRejectionCount()).isEqualTo(1);
+        assertThat(enricher.getTimeoutCount()).isEqualTo(2);
+        enricher.shutdown();
+    }
+
+    /**
+     * 마감 시각을 정할 때를 포함해 시계를 reads번 읽을 때까지는 시간이 흐르지 않고, 그다음부터는 마감 시각이 지나 있다
+     */
+    private FavoritePathEnricher expiringAfterClockReads(int threads, int queueCapacity, int reads) {
+        AtomicInteger clockReads = new AtomicInteger();
+        return new FavoritePathEnricher(pathService, threads, queueCapacity, TIMEOUT_MILLIS) {
+            @Override
+            long nanoTime() {
+                return clockReads.incrementAndGet() > reads ? Long.MAX_VALUE / 2 : 0;
+            }
+        };
+    }
+
+    private void awaitRelease() {
+        while (true) {
+            try {
+                release.await();
+                return;
+            } catch (InterruptedException e) {
+                if (release.getCount() == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static FavoriteResponse favorite(long source, long target) {
+        return new FavoriteResponse(source * 100 + target, station(source), station(target));
+    }
+
+    private static StationResponse station(long id) {
+        return new StationResponse(id, "역" + id);
+    }
+}
@@ -1,9 +1,21 @@
 package nextstep.member.acceptance;
 
+import io.restassured.RestAssured;
+import nextstep.member.domain.Member;
+import nextstep.member.domain.MemberRepository;
+import nextstep.member.domain.RoleType;
 import nextstep.utils.AcceptanceTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static nextstep.member.acceptance.MemberSteps.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -12,6 +24,10 @@ class MemberAcceptanceTest extends AcceptanceTest {
     public static final String EMAIL = "email@email.com";
     public static final String PASSWORD = "password";
     public static final int AGE = 20;
+    private static final String ADMIN_EMAIL = "admin@email.com";
+
+    @Autowired
+    private MemberRepository memberRepository;
 
     @DisplayName("회원가입을 한다.")
     @Test
@@ -20,9 +36,166 @@ class MemberAcceptanceTest extends AcceptanceTest {
         var response = 회원_생성_요청(EMAIL, PASSWORD, AGE);
 
         // then
+        쿼리_수_검증(response, 1);
         assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
     }
 
+    @DisplayName("회원을 일괄 등록한다.")
+    @Test
+    void importMembers() {
+        // given
+        String body = "email,password,age\n"
+                + "a" + EMAIL + "," + PASSWORD + ",20\n"
+                + "b" + EMAIL + "," + PASSWORD + ",21\n"
+                + "a" + EMAIL + "," + PASSWORD + ",22\n"
+                + "malformed\n";
+
+        // when
+        var response = 회원_일괄_등록_요청(관리자_로그인됨(), "text/csv", body);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        var results = 줄_단위_응답(response);
+        assertThat(results).extracting(it -> it.getLong("line")).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(results).extracting(it -> it.getBoolean("created")).containsExactly(true, true, false, false);
+        assertThat(results).extracting(it -> it.getString("error")).containsExactly(null, null, "duplicate email", "malformed row");
+        assertThat(베어러_인증_로그인_요청("b" + EMAIL, PASSWORD).statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @DisplayName("관리자가 아니면 회원을 일괄 등록할 수 없다.")
+    @Test
+    void importMembersWithoutAdmin() {
+        // given
+        회원_생성_요청(EMAIL, PASSWORD, AGE);
+        String accessToken = 베어러_인증_로그인_요청(EMAIL, PASSWORD).jsonPath().getString("accessToken");
+        String body = "a" + EMAIL + "," + PASSWORD + ",20\n";
+
+        // when
+        var memberResponse = 회원_일괄_등록_요청(accessToken, "text/csv", body);
+        var anonymousResponse = RestAssured.given().log().all()
+                .contentType("text/csv")
+                .body(body)
+                .when().post("/members/import")
+                .then().log().all().extract();
+
+        // then
+        assertThat(memberResponse.statusCode()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        assertThat(anonymousResponse.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(memberRepository.findByEmail("a" + EMAIL)).isEmpty();
+    }
+
+    @DisplayName("회원 목록을 커서로 나누어 조회한다.")
+    @Test
+    void findMembersByCursor() {
+        // given
+        String accessToken = 관리자_로그인됨();
+        회원_일괄_등록_요청(accessToken, "text/csv", "c" + EMAIL + ",pw,20\na" + EMAIL + ",pw,30\nb" + EMAIL + ",pw,40\n");
+
+        // when
+        List<String> emails = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        params.put("sort", "email");
+        params.put("size", 2);
+        int pages = 0;
+        String next;
+        do {
+            var response = 회원_목록_조회_요청(accessToken, params);
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            emails.addAll(response.jsonPath().getList("members.email", String.class));
+            next = response.jsonPath().getString("next");
+            params.put("cursor", next);
+            pages++;
+        } while (next != null);
+
+        // then
+        assertThat(pages).isEqualTo(2);
+        assertThat(emails).containsExactly(ADMIN_EMAIL, "a" + EMAIL, "b" + EMAIL, "c" + EMAIL);
+    }
+
+    @DisplayName("나이 범위로 회원 목록을 조회한다.")
+    @Test
+    void findMembersByAge() {
+        // given
+        String accessToken = 관리자_로그인됨();
+        회원_일괄_등록_요청(accessToken, "text/csv", "a" + EMAIL + ",pw,20\nb" + EMAIL + ",pw,30\nc" + EMAIL + ",pw,40\n");
+
+        // when
+        var response = 회원_목록_조회_요청(accessToken, Map.of("minAge", 25, "maxAge", 45));
+
+        // then
+        쿼리_수_검증(response, 1);
+        assertThat(response.jsonPath().getList("members.email", String.class)).containsExactly("b" + EMAIL, "c" + EMAIL);
+        assertThat(response.jsonPath().getString("next")).isNull();
+    }
+
+    @DisplayName("정렬 기준과 맞지 않는 커서로 조회하면 실패한다.")
+    @Test
+    void findMembersWithMismatchedCursor() {
+        // given
+        String accessToken = 관리자_로그인됨();
+        회원_일괄_등록_요청(accessToken, "text/csv", "a" + EMAIL + ",pw,20\nb" + EMAIL + ",pw,30\n");
+        String next = 회원_목록_조회_요청(accessToken, Map.of("size", 1)).jsonPath().getString("next");
+
+        // when
+        var response = 회원_목록_조회_요청(accessToken, Map.of("sort", "email", "cursor", next));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("관리자가 아니면 회원 목록을 조회할 수 없다.")
+    @Test
+    void findMembersWithoutAdmin() {
+        // given
+        회원_생성_요청(EMAIL, PASSWORD, AGE);
+        String accessToken = 베어러_인증_로그인_요청(EMAIL, PASSWORD).jsonPath().getString("accessToken");
+
+        // when
+        var memberResponse = 회원_목록_조회_요청(accessToken, Map.of());
+        var anonymousResponse = RestAssured.given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/members")
+                .then().log().all().extract();
+
+        // then
+        assertThat(memberResponse.statusCode()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        assertThat(anonymousResponse.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @DisplayName("회원 목록을 내보낸다.")
+    @Test
+    void exportMembers() {
+        // given
+        회원_생성_요청("a" + EMAIL, PASSWORD, AGE);
+        회원_생성_요청("b" + EMAIL, PASSWORD, AGE + 1);
+
+        // when
+        var response = 회원_내보내기_요청(관리자_로그인됨());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(줄_단위_응답(response)).extracting(it -> it.getString("email"))
+                .containsExactly("a" + EMAIL, "b" + EMAIL, ADMIN_EMAIL);
+    }
+
+    @DisplayName("관리자가 아니면 회원 목록을 내보낼 수 없다.")
+    @Test
+    void exportMembersWithoutAdmin() {
+        // given
+        회원_생성_요청(EMAIL, PASSWORD, AGE);
+        String accessToken = 베어러_인증_로그인_요청(EMAIL, PASSWORD).jsonPath().getString("accessToken");
+
+        // when
+        var memberResponse = 회원_내보내기_요청(accessToken);
+        var anonymousResponse = RestAssured.given().log().all()
+                .when().get("/members/export")
+                .then().log().all().extract();
+
+        // then
+        assertThat(memberResponse.statusCode()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        assertThat(anonymousResponse.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
     @DisplayName("회원 정보를 조회한다.")
     @Test
     void getMember() {
@@ -33,6 +206,7 @@ class MemberAcceptanceTest extends AcceptanceTest {
         var response = 회원_정보_조회_요청(createResponse);
 
         // then
+        쿼리_수_검증(response, 1);
         회원_정보_조회됨(response, EMAIL, AGE);
 
     }
@@ -47,9 +221,45 @@ class MemberAcceptanceTest extends AcceptanceTest {
         var response = 회원_정보_수정_요청(createResponse, "new" + EMAIL, "new" + PASSWORD, AGE);
 
         // then
+        쿼리_수_검증(response, 2);
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
     }
 
+    @DisplayName("회원 정보가 바뀌지 않았으면 본문 없이 304 응답을 받는다.")
+    @Test
+    void getMemberNotModified() {
+        // given
+        var createResponse = 회원_생성_요청(EMAIL, PASSWORD, AGE);
+        String eTag = 회원_정보_조회_요청(createResponse).header(HttpHeaders.ETAG);
+
+        // when
+        var response = 회원_정보_조건부_조회_요청(createResponse, eTag);
+
+        // then
+        쿼리_수_검증(response, 1);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.header(HttpHeaders.ETAG)).isEqualTo(eTag);
+        assertThat(response.asString()).isEmpty();
+    }
+
+    @DisplayName("조회한 뒤 다른 곳에서 수정된 회원 정보는 그 ETag로 수정할 수 없다.")
+    @Test
+    void updateMemberWithStaleETag() {
+        // given
+        var createResponse = 회원_생성_요청(EMAIL, PASSWORD, AGE);
+        String eTag = 회원_정보_조회_요청(createResponse).header(HttpHeaders.ETAG);
+        var firstResponse = 회원_정보_조건부_수정_요청(createResponse, eTag, EMAIL, PASSWORD, AGE + 1);
+
+        // when
+        var response = 회원_정보_조건부_수정_요청(createResponse, eTag, EMAIL, PASSWORD, AGE + 2);
+
+        // then
+        assertThat(firstResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(firstResponse.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
+        회원_정보_조회됨(회원_정보_조회_요청(createResponse), EMAIL, AGE + 1);
+    }
+
     @DisplayName("회원 정보를 삭제한다.")
     @Test
     void deleteMember() {
@@ -60,9 +270,27 @@ class MemberAcceptanceTest extends AcceptanceTest {
         var response = 회원_삭제_요청(createResponse);
 
         // then
+        쿼리_수_검증(response, 3);
         assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
     }
 
+    @DisplayName("회원 정보를 삭제하면 더 이상 로그인할 수 없다.")
+    @Test
+    void loginAfterDeleteMember() {
+        // given
+        var createResponse = 회원_생성_요청(EMAIL, PASSWORD, AGE);
+        베어러_인증_로그인_요청(EMAIL, PASSWORD);
+        var cachedLoginResponse = 베어러_인증_로그인_요청(EMAIL, PASSWORD);
+
+        // when
+        회원_삭제_요청(createResponse);
+        var response = 베어러_인증_로그인_요청(EMAIL, PASSWORD);
+
+        // then
+        assertThat(cachedLoginResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
     /**
      * Given 회원 가입을 생성하고
      * And 로그인을 하고
@@ -72,6 +300,58 @@ class MemberAcceptanceTest extends AcceptanceTest {
     @DisplayName("내 정보를 조회한다.")
     @Test
     void getMyInfo() {
+        // given
+        회원_생성_요청(EMAIL, PASSWORD, AGE);
+        String accessToken = 베어러_인증_로그인_요청(EMAIL, PASSWORD).jsonPath().getString("accessToken");
+
+        // when
+        var response = 내_정보_조회_요청(accessToken);
+
+        // then
+        쿼리_수_검증(response, 0);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        회원_정보_조회됨(response, EMAIL, AGE);
+        assertThat(response.header(HttpHeaders.ETAG)).isNotBlank();
+    }
+
+    @DisplayName("내 정보가 바뀌지 않았으면 본문 없이 304 응답을 받는다.")
+    @Test
+    void getMyInfoNotModified() {
+        // given
+        회원_생성_요청(EMAIL, PASSWORD, AGE);
+        String accessToken = 베어러_인증_로그인_요청(EMAIL, PASSWORD).jsonPath().getString("accessToken");
+        String eTag = 내_정보_조회_요청(accessToken).header(HttpHeaders.ETAG);
+
+        // when
+        var response = 내_정보_조건부_조회_요청(accessToken, eTag);
+
+        // then
+        쿼리_수_검증(response, 0);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.asString()).isEmpty();
+    }
+
+    @DisplayName("내 정보를 수정하면 수정 전에 발급받은 토큰으로도 바뀐 정보를 조회한다.")
+    @Test
+    void getMyInfoAfterUpdate() {
+        // given
+        var createResponse = 회원_생성_요청(EMAIL, PASSWORD, AGE);
+        String accessToken = 베어러_인증_로그인_요청(EMAIL, PASSWORD).jsonPath().getString("accessToken");
+        String eTag = 내_정보_조회_요청(accessToken).header(HttpHeaders.ETAG);
+
+        // when
+        회원_정보_수정_요청(createResponse, "new" + EMAIL, "new" + PASSWORD, AGE + 1);
+        var response = 내_정보_조건부_조회_요청(accessToken, eTag);
+
+        // then
+        쿼리_수_검증(response, 1);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        회원_정보_조회됨(response, "new" + EMAIL, AGE + 1);
+        assertThat(response.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
 
+    private String 관리자_로그인됨() {
+        memberRepository.save(new Member(ADMIN_EMAIL, PASSWORD, AGE, RoleType.ROLE_ADMIN.name()));
+        return 베어러_인증_로그인_요청(ADMIN_EMAIL, PASSWORD).jsonPath().getString("accessToken");
     }
-}
\ No newline at end of file
+}
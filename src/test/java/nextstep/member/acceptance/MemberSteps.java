@@ -1,12 +1,17 @@
 package nextstep.member.acceptance;
 
 import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -35,6 +40,34 @@ public class MemberSteps {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 회원_정보_조건부_조회_요청(ExtractableResponse<Response> response, String eTag) {
+        String uri = response.header("Location");
+
+        return RestAssured.given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get(uri)
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 회원_정보_조건부_수정_요청(ExtractableResponse<Response> response, String eTag, String email, String password, Integer age) {
+        String uri = response.header("Location");
+
+        Map<String, String> params = new HashMap<>();
+        params.put("email", email);
+        params.put("password", password);
+        params.put("age", age + "");
+
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .body(params)
+                .when().put(uri)
+                .then().log().all().extract();
+    }
+
     public static ExtractableResponse<Response> 회원_정보_수정_요청(ExtractableResponse<Response> response, String email, String password, Integer age) {
         String uri = response.header("Location");
 
@@ -59,6 +92,106 @@ public class MemberSteps {
                 .then().log().all().extract();
     }
 
+    public static ExtractableResponse<Response> 회원_일괄_등록_요청(String accessToken, String contentType, String body) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .contentType(contentType)
+                .body(body)
+                .when().post("/members/import")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 회원_목록_조회_요청(String accessToken, Map<String, ?> params) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParams(params)
+                .when().get("/members")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 회원_내보내기_요청(String accessToken) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .when().get("/members/export")
+                .then().log().all().extract();
+    }
+
+    public static List<JsonPath> 줄_단위_응답(ExtractableResponse<Response> response) {
+        return Arrays.stream(response.asString().split("\n"))
+                .map(JsonPath::from)
+                .collect(Collectors.toList());
+    }
+
+    public static ExtractableResponse<Response> 베어러_인증_로그인_요청(String email, String password) {
+        Map<String, String> params = new HashMap<>();
+        params.put("email", email);
+        params.put("password", password);
+
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(params)
+                .when().post("/login/token")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 토큰_갱신_요청(String refreshToken) {
+        Map<String, String> params = new HashMap<>();
+        params.put("refreshToken", refreshToken);
+
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(params)
+                .when().post("/login/token/refresh")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 로그아웃_요청(String accessToken, String refreshToken) {
+        Map<String, String> params = new HashMap<>();
+        params.put("refreshToken", refreshToken);
+
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(params)
+                .when().post("/logout")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 내_정보_조회_요청(String accessToken) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/members/me")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 인증_헤더로_내_정보_조회_요청(String authorization) {
+        return RestAssured
+                .given().log().all()
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/members/me")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 내_정보_조건부_조회_요청(String accessToken, String eTag) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/members/me")
+                .then().log().all().extract();
+    }
+
     public static void 회원_정보_조회됨(ExtractableResponse<Response> response, String email, int age) {
         assertThat(response.jsonPath().getString("id")).isNotNull();
         assertThat(response.jsonPath().getString("email")).isEqualTo(email);
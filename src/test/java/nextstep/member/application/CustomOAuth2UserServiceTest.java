@@ -0,0 +1,61 @@
+package nextstep.member.application;
+
+import nextstep.auth.token.oauth2.OAuth2User;
+import nextstep.auth.token.oauth2.github.GithubProfileResponse;
+import nextstep.member.domain.MemberRepository;
+import nextstep.utils.AcceptanceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomOAuth2UserServiceTest extends AcceptanceTest {
+    private static final String EMAIL = "github@email.com";
+    private static final int CONCURRENCY = 16;
+
+    @Autowired
+    private CustomOAuth2UserService customOAuth2UserService;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @DisplayName("같은 이메일로 동시에 첫 로그인을 해도 회원은 한 명만 생성된다")
+    @Test
+    void loadUserConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<OAuth2User>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return customOAuth2UserService.loadUser(new GithubProfileResponse(EMAIL, 20));
+            }));
+        }
+
+        start.countDown();
+        for (Future<OAuth2User> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS).getUsername()).isEqualTo(EMAIL);
+        }
+        executor.shutdown();
+
+        assertThat(memberRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("이미 가입한 회원은 그대로 불러온다")
+    @Test
+    void loadExistingUser() {
+        OAuth2User first = customOAuth2UserService.loadUser(new GithubProfileResponse(EMAIL, 20));
+        OAuth2User second = customOAuth2UserService.loadUser(new GithubProfileResponse(EMAIL, 30));
+
+        assertThat(second.getUsername()).isEqualTo(first.getUsername());
+        assertThat(memberRepository.findByEmail(EMAIL).get().getAge()).isEqualTo(20);
+    }
+}
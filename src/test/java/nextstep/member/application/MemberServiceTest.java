@@ -0,0 +1,55 @@
+package nextstep.member.application;
+
+import nextstep.member.application.dto.MemberRequest;
+import nextstep.member.domain.Member;
+import nextstep.member.domain.MemberRepository;
+import nextstep.utils.AcceptanceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberServiceTest extends AcceptanceTest {
+    private static final String EMAIL = "service@email.com";
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberVersionRegistry memberVersionRegistry;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DisplayName("회원을 수정해도 커밋하기 전까지는 이전 버전의 토큰을 낡은 것으로 보지 않는다")
+    @Test
+    void recordVersionAfterCommit() {
+        Member member = memberRepository.save(new Member(EMAIL, PASSWORD, 20));
+        long issuedAt = System.currentTimeMillis();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            memberService.updateMember(member.getId(), new MemberRequest(EMAIL, PASSWORD, 30), null);
+            assertThat(memberVersionRegistry.isCurrent(member.getId(), member.getVersion(), issuedAt)).isTrue();
+        });
+
+        assertThat(memberVersionRegistry.isCurrent(member.getId(), member.getVersion(), issuedAt)).isFalse();
+    }
+
+    @DisplayName("롤백된 회원 삭제는 기록하지 않는다")
+    @Test
+    void skipRemovalOnRollback() {
+        Member member = memberRepository.save(new Member(EMAIL, PASSWORD, 20));
+        long issuedAt = System.currentTimeMillis();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            memberService.deleteMember(member.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(memberVersionRegistry.isPresent(member.getId(), issuedAt)).isTrue();
+        assertThat(memberRepository.findById(member.getId())).isPresent();
+    }
+}
@@ -0,0 +1,35 @@
+package nextstep.member.domain;
+
+import nextstep.utils.AcceptanceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberRepositoryTest extends AcceptanceTest {
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DisplayName("save와 findOrCreate를 번갈아 불러도 같은 생성기에서 id를 받아 겹치지 않는다")
+    @Test
+    void findOrCreateSharesIdGenerator() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            ids.add(memberRepository.save(new Member("saved" + i + "@email.com", PASSWORD, 20)).getId());
+            Member candidate = new Member("github" + i + "@email.com", PASSWORD, 20);
+            ids.add(transactionTemplate.execute(status -> memberRepository.findOrCreate(candidate)).getId());
+        }
+
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+        assertThat(ids.get(ids.size() - 1) - ids.get(0)).isEqualTo(ids.size() - 1);
+    }
+}
@@ -3,18 +3,25 @@ package nextstep.study;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import nextstep.auth.token.LoginRateLimiter;
+import nextstep.auth.token.oauth2.github.GithubProfileLoader;
 import nextstep.member.domain.Member;
 import nextstep.member.domain.MemberRepository;
 import nextstep.utils.AcceptanceTest;
+import nextstep.utils.GithubResponses;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static nextstep.member.acceptance.MemberSteps.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class AuthAcceptanceTest extends AcceptanceTest {
@@ -24,6 +31,10 @@ class AuthAcceptanceTest extends AcceptanceTest {
 
     @Autowired
     private MemberRepository memberRepository;
+    @Autowired
+    private GithubProfileLoader githubProfileLoader;
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
 
     @DisplayName("Bearer Auth")
     @Test
@@ -42,13 +53,36 @@ class AuthAcceptanceTest extends AcceptanceTest {
                 .statusCode(HttpStatus.OK.value()).extract();
 
         assertThat(response.jsonPath().getString("accessToken")).isNotBlank();
+        쿼리_수_검증(response, 2);
+    }
+
+    @DisplayName("평문으로 저장된 비밀번호는 로그인에 성공하면 해시로 바뀐다")
+    @Test
+    void upgradePlaintextPassword() {
+        memberRepository.save(new Member(EMAIL, PASSWORD, AGE));
+
+        Map<String, String> params = new HashMap<>();
+        params.put("email", EMAIL);
+        params.put("password", PASSWORD);
+
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given().log().all()
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .body(params)
+                    .when().post("/login/token")
+                    .then().log().all()
+                    .statusCode(HttpStatus.OK.value());
+        }
+
+        String storedPassword = memberRepository.findByEmail(EMAIL).get().getPassword();
+        assertThat(storedPassword).isNotEqualTo(PASSWORD).startsWith("$2");
     }
 
     @DisplayName("Github Auth")
     @Test
     void githubAuth() {
         Map<String, String> params = new HashMap<>();
-        params.put("code", "code");
+        params.put("code", GithubResponses.사용자1.getCode());
 
         ExtractableResponse<Response> response = RestAssured.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -58,5 +92,124 @@ class AuthAcceptanceTest extends AcceptanceTest {
                 .statusCode(HttpStatus.OK.value()).extract();
 
         assertThat(response.jsonPath().getString("accessToken")).isNotBlank();
+        쿼리_수_검증(response, 3);
+    }
+
+    @DisplayName("같은 code로 다시 요청하면 GitHub 교환 결과를 재사용한다")
+    @Test
+    void githubAuthWithDuplicatedCode() {
+        Map<String, String> params = new HashMap<>();
+        params.put("code", GithubResponses.사용자2.getCode());
+        long exchangeCount = githubProfileLoader.getExchangeCount();
+        long coalescedCount = githubProfileLoader.getCoalescedCount();
+
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given().log().all()
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .body(params)
+                    .when().post("/login/github")
+                    .then().log().all()
+                    .statusCode(HttpStatus.OK.value());
+        }
+
+        assertThat(githubProfileLoader.getExchangeCount()).isEqualTo(exchangeCount + 1);
+        assertThat(githubProfileLoader.getCoalescedCount()).isEqualTo(coalescedCount + 1);
+    }
+
+    @DisplayName("리프레시 토큰으로 새 토큰을 발급받으면 쓴 리프레시 토큰은 다시 쓸 수 없다")
+    @Test
+    void refreshToken() {
+        memberRepository.save(new Member(EMAIL, PASSWORD, AGE));
+        String refreshToken = 베어러_인증_로그인_요청(EMAIL, PASSWORD).jsonPath().getString("refreshToken");
+
+        var response = 토큰_갱신_요청(refreshToken);
+        var reusedResponse = 토큰_갱신_요청(refreshToken);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getString("refreshToken")).isNotEqualTo(refreshToken);
+        쿼리_수_검증(response, 1);
+        assertThat(내_정보_조회_요청(response.jsonPath().getString("accessToken")).statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(reusedResponse.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @DisplayName("로그아웃하면 액세스 토큰과 리프레시 토큰을 더 이상 쓸 수 없다")
+    @Test
+    void logout() {
+        memberRepository.save(new Member(EMAIL, PASSWORD, AGE));
+        var loginResponse = 베어러_인증_로그인_요청(EMAIL, PASSWORD);
+        String accessToken = loginResponse.jsonPath().getString("accessToken");
+        String refreshToken = loginResponse.jsonPath().getString("refreshToken");
+        내_정보_조회_요청(accessToken);
+
+        var response = 로그아웃_요청(accessToken, refreshToken);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        쿼리_수_검증(response, 0);
+        assertThat(내_정보_조회_요청(accessToken).statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(토큰_갱신_요청(refreshToken).statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @DisplayName("리프레시 토큰으로는 인증할 수 없다")
+    @Test
+    void authenticateWithRefreshToken() {
+        memberRepository.save(new Member(EMAIL, PASSWORD, AGE));
+        String refreshToken = 베어러_인증_로그인_요청(EMAIL, PASSWORD).jsonPath().getString("refreshToken");
+
+        var response = 내_정보_조회_요청(refreshToken);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @DisplayName("형식이 잘못된 Authorization 헤더로는 인증할 수 없다")
+    @ParameterizedTest
+    @ValueSource(strings = {"", "Bearer", "Bearer ", "Basic dXNlcjpwYXNz", "Bearer a b", "Bearer not-a-token"})
+    void authenticateWithMalformedHeader(String authorization) {
+        var response = 인증_헤더로_내_정보_조회_요청(authorization);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @DisplayName("Authorization 헤더 없이는 인증이 필요한 경로에 접근할 수 없다")
+    @Test
+    void authenticateWithoutHeader() {
+        var response = RestAssured.given().log().all()
+                .when().get("/members/me")
+                .then().log().all().extract();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(response.header(HttpHeaders.WWW_AUTHENTICATE)).isEqualTo("Bearer");
+    }
+
+    @DisplayName("같은 이메일로 로그인을 너무 자주 시도하면 DB를 조회하지 않고 거절한다")
+    @Test
+    void loginRateLimited() {
+        memberRepository.save(new Member(EMAIL, PASSWORD, AGE));
+        for (int i = 0; i < 5; i++) {
+            assertThat(베어러_인증_로그인_요청(EMAIL, "wrong").statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        }
+
+        var response = 베어러_인증_로그인_요청(EMAIL, PASSWORD);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(Integer.parseInt(response.header(HttpHeaders.RETRY_AFTER))).isBetween(1, 12);
+        쿼리_수_검증(response, 0);
+    }
+
+    @DisplayName("신뢰하는 프록시를 거친 로그인 시도는 X-Forwarded-For의 클라이언트 IP별로 센다")
+    @Test
+    void loginRateLimitedPerForwardedClient() {
+        memberRepository.save(new Member(EMAIL, PASSWORD, AGE));
+
+        for (String clientAddress : new String[]{"203.0.113.1", "203.0.113.2", "203.0.113.1"}) {
+            RestAssured.given().log().all()
+                    .header("X-Forwarded-For", clientAddress)
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .body(Map.of("email", EMAIL, "password", PASSWORD))
+                    .when().post("/login/token")
+                    .then().log().all()
+                    .statusCode(HttpStatus.OK.value());
+        }
+
+        assertThat(loginRateLimiter.getIpLimiter().size()).isEqualTo(2);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package nextstep.subway.acceptance;
+
+import nextstep.utils.AcceptanceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static nextstep.subway.acceptance.LineSteps.*;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성됨;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 노선 관련 기능")
+class LineAcceptanceTest extends AcceptanceTest {
+    private Long 강남역;
+    private Long 양재역;
+    private Long 정자역;
+
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        강남역 = 지하철역_생성됨("강남역");
+        양재역 = 지하철역_생성됨("양재역");
+        정자역 = 지하철역_생성됨("정자역");
+    }
+
+    @DisplayName("지하철 노선을 생성한다.")
+    @Test
+    void createLine() {
+        // when
+        var response = 지하철_노선_생성_요청("신분당선", "bg-red-600", 강남역, 정자역, 10, 5);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(response.jsonPath().getList("stations.name", String.class)).containsExactly("강남역", "정자역");
+    }
+
+    @DisplayName("지하철 노선 목록은 노선 수와 상관없이 한 번에 조회한다.")
+    @Test
+    void showLines() {
+        // given
+        지하철_노선_생성됨("신분당선", 강남역, 양재역, 10, 5);
+        지하철_노선_생성됨("2호선", 양재역, 정자역, 10, 5);
+
+        // when
+        var response = 지하철_노선_목록_조회_요청();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("name", String.class)).containsExactlyInAnyOrder("신분당선", "2호선");
+        쿼리_수_검증(response, 1);
+    }
+
+    @DisplayName("지하철 노선을 수정한다.")
+    @Test
+    void updateLine() {
+        // given
+        Long lineId = 지하철_노선_생성됨("신분당선", 강남역, 정자역, 10, 5);
+
+        // when
+        var response = 지하철_노선_수정_요청(lineId, "구분당선", "bg-blue-600");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(지하철_노선_조회_요청(lineId).jsonPath().getString("name")).isEqualTo("구분당선");
+    }
+
+    @DisplayName("지하철 노선을 삭제한다.")
+    @Test
+    void deleteLine() {
+        // given
+        Long lineId = 지하철_노선_생성됨("신분당선", 강남역, 정자역, 10, 5);
+
+        // when
+        var response = 지하철_노선_삭제_요청(lineId);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(지하철_노선_목록_조회_요청().jsonPath().getList("id")).isEmpty();
+    }
+
+    @DisplayName("기존 구간 사이에 구간을 추가한다.")
+    @Test
+    void addSectionBetween() {
+        // given
+        Long lineId = 지하철_노선_생성됨("신분당선", 강남역, 정자역, 10, 5);
+
+        // when
+        var response = 지하철_구간_생성_요청(lineId, 강남역, 양재역, 4, 2);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(지하철_노선_조회_요청(lineId).jsonPath().getList("stations.name", String.class)).containsExactly("강남역", "양재역", "정자역");
+    }
+
+    @DisplayName("이미 노선에 있는 두 역을 잇는 구간은 추가할 수 없다.")
+    @Test
+    void addDuplicatedSection() {
+        // given
+        Long lineId = 지하철_노선_생성됨("신분당선", 강남역, 정자역, 10, 5);
+
+        // when
+        var response = 지하철_구간_생성_요청(lineId, 정자역, 강남역, 4, 2);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("가운데 역을 빼면 앞뒤 구간이 합쳐진다.")
+    @Test
+    void removeMiddleStation() {
+        // given
+        Long lineId = 지하철_노선_생성됨("신분당선", 강남역, 양재역, 10, 5);
+        지하철_구간_생성_요청(lineId, 양재역, 정자역, 10, 5);
+
+        // when
+        var response = 지하철_구간_삭제_요청(lineId, 양재역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(지하철_노선_조회_요청(lineId).jsonPath().getList("stations.name", String.class)).containsExactly("강남역", "정자역");
+    }
+}
@@ -0,0 +1,99 @@
+package nextstep.subway.acceptance;
+
+import nextstep.utils.AcceptanceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static nextstep.subway.acceptance.LineSteps.*;
+import static nextstep.subway.acceptance.PathSteps.경로_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성됨;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 경로 검색")
+class PathAcceptanceTest extends AcceptanceTest {
+    private Long 교대역;
+    private Long 강남역;
+    private Long 양재역;
+    private Long 남부터미널역;
+    private Long 삼호선;
+
+    /**
+     * 교대역    --- *2호선* (10km, 2분) ---   강남역
+     * |                                        |
+     * *3호선* (2km, 10분)                   *신분당선* (10km, 3분)
+     * |                                        |
+     * 남부터미널역  --- *3호선* (3km, 10분) ---   양재
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        교대역 = 지하철역_생성됨("교대역");
+        강남역 = 지하철역_생성됨("강남역");
+        양재역 = 지하철역_생성됨("양재역");
+        남부터미널역 = 지하철역_생성됨("남부터미널역");
+
+        지하철_노선_생성됨("2호선", 교대역, 강남역, 10, 2);
+        지하철_노선_생성됨("신분당선", 강남역, 양재역, 10, 3);
+        삼호선 = 지하철_노선_생성됨("3호선", 교대역, 남부터미널역, 2, 10);
+        지하철_구간_생성_요청(삼호선, 남부터미널역, 양재역, 3, 10);
+    }
+
+    @DisplayName("두 역의 최단 거리 경로를 DB 조회 없이 찾는다.")
+    @Test
+    void findPathByDistance() {
+        // when
+        var response = 경로_조회_요청(교대역, 양재역, "DISTANCE");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(5);
+        assertThat(response.jsonPath().getInt("duration")).isEqualTo(20);
+        쿼리_수_검증(response, 0);
+    }
+
+    @DisplayName("두 역의 최소 시간 경로를 찾는다.")
+    @Test
+    void findPathByDuration() {
+        // when
+        var response = 경로_조회_요청(교대역, 양재역, "DURATION");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.name", String.class)).containsExactly("교대역", "강남역", "양재역");
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(20);
+        assertThat(response.jsonPath().getInt("duration")).isEqualTo(5);
+    }
+
+    @DisplayName("구간이 바뀌면 전에 찾아 둔 경로 대신 바뀐 노선망으로 경로를 찾는다.")
+    @Test
+    void findPathAfterSectionRemoved() {
+        // given
+        경로_조회_요청(교대역, 양재역, "DISTANCE");
+        지하철_구간_삭제_요청(삼호선, 남부터미널역);
+
+        // when
+        var response = 경로_조회_요청(교대역, 양재역, "DISTANCE");
+
+        // then
+        assertThat(response.jsonPath().getList("stations.name", String.class)).containsExactly("교대역", "양재역");
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(5);
+    }
+
+    @DisplayName("출발역과 도착역이 같거나 이어지지 않으면 경로를 찾을 수 없다.")
+    @Test
+    void findPathWithInvalidStations() {
+        // given
+        Long 정자역 = 지하철역_생성됨("정자역");
+
+        // when
+        var sameStation = 경로_조회_요청(교대역, 교대역, "DISTANCE");
+        var unconnected = 경로_조회_요청(교대역, 정자역, "DISTANCE");
+
+        // then
+        assertThat(sameStation.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(unconnected.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+}
@@ -0,0 +1,16 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class PathSteps {
+    public static ExtractableResponse<Response> 경로_조회_요청(Long source, Long target, String type) {
+        return RestAssured.given().log().all()
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .queryParam("type", type)
+                .when().get("/paths")
+                .then().log().all().extract();
+    }
+}
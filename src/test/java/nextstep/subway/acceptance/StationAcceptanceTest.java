@@ -0,0 +1,70 @@
+package nextstep.subway.acceptance;
+
+import nextstep.utils.AcceptanceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성됨;
+import static nextstep.subway.acceptance.StationSteps.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철역 관련 기능")
+class StationAcceptanceTest extends AcceptanceTest {
+    @DisplayName("지하철역을 생성한다.")
+    @Test
+    void createStation() {
+        // when
+        var response = 지하철역_생성_요청("강남역");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(지하철역_목록_조회_요청().jsonPath().getList("name", String.class)).containsExactly("강남역");
+    }
+
+    @DisplayName("지하철역 목록을 조회한다.")
+    @Test
+    void showStations() {
+        // given
+        지하철역_생성_요청("강남역");
+        지하철역_생성_요청("역삼역");
+
+        // when
+        var response = 지하철역_목록_조회_요청();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("name", String.class)).containsExactly("강남역", "역삼역");
+        쿼리_수_검증(response, 1);
+    }
+
+    @DisplayName("지하철역을 삭제한다.")
+    @Test
+    void deleteStation() {
+        // given
+        Long id = 지하철역_생성됨("강남역");
+
+        // when
+        var response = 지하철역_삭제_요청(id);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(지하철역_목록_조회_요청().jsonPath().getList("name")).isEmpty();
+    }
+
+    @DisplayName("구간에 포함된 지하철역은 삭제할 수 없다.")
+    @Test
+    void deleteStationInSection() {
+        // given
+        Long 강남역 = 지하철역_생성됨("강남역");
+        Long 역삼역 = 지하철역_생성됨("역삼역");
+        지하철_노선_생성됨("2호선", 강남역, 역삼역, 10, 2);
+
+        // when
+        var response = 지하철역_삭제_요청(강남역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(지하철역_목록_조회_요청().jsonPath().getList("name", String.class)).containsExactly("강남역", "역삼역");
+    }
+}
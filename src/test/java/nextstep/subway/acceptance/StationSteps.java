@@ -0,0 +1,34 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.springframework.http.MediaType;
+
+import java.util.Map;
+
+public class StationSteps {
+    public static ExtractableResponse<Response> 지하철역_생성_요청(String name) {
+        return RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(Map.of("name", name))
+                .when().post("/stations")
+                .then().log().all().extract();
+    }
+
+    public static Long 지하철역_생성됨(String name) {
+        return 지하철역_생성_요청(name).jsonPath().getLong("id");
+    }
+
+    public static ExtractableResponse<Response> 지하철역_목록_조회_요청() {
+        return RestAssured.given().log().all()
+                .when().get("/stations")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철역_삭제_요청(Long id) {
+        return RestAssured.given().log().all()
+                .when().delete("/stations/{id}", id)
+                .then().log().all().extract();
+    }
+}
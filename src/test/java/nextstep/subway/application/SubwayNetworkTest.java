@@ -0,0 +1,64 @@
+package nextstep.subway.application;
+
+import nextstep.subway.domain.SectionRepository;
+import nextstep.subway.domain.SubwayGraph;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubwayNetworkTest {
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final SubwayNetwork subwayNetwork = new SubwayNetwork(blockingSectionRepository(), true, 1000, 1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+        subwayNetwork.shutdown();
+    }
+
+    @DisplayName("한 스레드가 스냅샷을 새로 만드는 동안 다른 조회는 이전 스냅샷으로 답한다")
+    @Test
+    void servePreviousSnapshotWhileRebuilding() throws Exception {
+        SubwayGraph previous = subwayNetwork.current();
+        subwayNetwork.invalidate();
+
+        Future<SubwayGraph> rebuilding = executor.submit(subwayNetwork::current);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(subwayNetwork.current()).isSameAs(previous);
+        release.countDown();
+        SubwayGraph rebuilt = rebuilding.get(5, TimeUnit.SECONDS);
+
+        assertThat(rebuilt.getGeneration()).isEqualTo(subwayNetwork.getGeneration());
+        assertThat(subwayNetwork.current()).isSameAs(rebuilt);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private SectionRepository blockingSectionRepository() {
+        return (SectionRepository) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{SectionRepository.class}, (proxy, method, args) -> {
+            if (!method.getName().equals("findAllWithStations")) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            if (loads.incrementAndGet() > 1) {
+                loading.countDown();
+                release.await();
+            }
+            return List.of();
+        });
+    }
+}
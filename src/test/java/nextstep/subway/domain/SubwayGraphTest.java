@@ -0,0 +1,115 @@
+package nextstep.subway.domain;
+
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.WeightedMultigraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubwayGraphTest {
+    @DisplayName("임의의 노선망에서 jgrapht 다익스트라와 같은 최단 거리를 찾는다")
+    @Test
+    void sameDistanceAsJgrapht() {
+        Random random = new Random(7);
+        int stationCount = 200;
+        SubwayGraph.Builder builder = SubwayGraph.builder(600);
+        WeightedMultigraph<Long, DefaultWeightedEdge> reference = new WeightedMultigraph<>(DefaultWeightedEdge.class);
+        for (long id = 1; id <= stationCount; id++) {
+            reference.addVertex(id);
+        }
+        for (int i = 0; i < 600; i++) {
+            long up = 1 + random.nextInt(stationCount);
+            long down = 1 + random.nextInt(stationCount);
+            if (up == down) {
+                continue;
+            }
+            int distance = 1 + random.nextInt(20);
+            builder.addSection(up, "역" + up, down, "역" + down, distance, 1);
+            reference.setEdgeWeight(reference.addEdge(up, down), distance);
+        }
+        SubwayGraph graph = builder.build(1);
+        DijkstraShortestPath<Long, DefaultWeightedEdge> dijkstra = new DijkstraShortestPath<>(reference);
+
+        for (int i = 0; i < 200; i++) {
+            long source = 1 + random.nextInt(stationCount);
+            long target = 1 + random.nextInt(stationCount);
+            GraphPath<Long, DefaultWeightedEdge> expected = dijkstra.getPath(source, target);
+            var actual = graph.findPath(source, target, PathType.DISTANCE);
+
+            assertThat(actual.isPresent()).isEqualTo(expected != null && graph.contains(source) && graph.contains(target));
+            actual.ifPresent(path -> {
+                assertThat(path.getDistance()).isEqualTo((int) expected.getWeight());
+                assertThat(path.getStationId(0)).isEqualTo(source);
+                assertThat(path.getStationId(path.size() - 1)).isEqualTo(target);
+            });
+        }
+    }
+
+    @DisplayName("기준에 따라 거리나 소요 시간이 가장 짧은 경로를 고르고, 이어지지 않으면 비어 있다")
+    @Test
+    void findPathByType() {
+        SubwayGraph graph = SubwayGraph.builder(4)
+                .addSection(1, "교대역", 2, "강남역", 10, 2)
+                .addSection(2, "강남역", 3, "양재역", 10, 3)
+                .addSection(1, "교대역", 4, "남부터미널역", 2, 10)
+                .addSection(4, "남부터미널역", 3, "양재역", 3, 10)
+                .addSection(5, "정자역", 6, "미금역", 3, 3)
+                .build(1);
+
+        ShortestPath byDistance = graph.findPath(1, 3, PathType.DISTANCE).orElseThrow();
+        ShortestPath byDuration = graph.findPath(1, 3, PathType.DURATION).orElseThrow();
+
+        assertThat(byDistance.getStationName(1)).isEqualTo("남부터미널역");
+        assertThat(byDistance.getDistance()).isEqualTo(5);
+        assertThat(byDuration.getStationName(1)).isEqualTo("강남역");
+        assertThat(byDuration.getDuration()).isEqualTo(5);
+        assertThat(graph.findPath(1, 5, PathType.DISTANCE)).isEmpty();
+        assertThat(graph.findPath(1, 99, PathType.DISTANCE)).isEmpty();
+    }
+
+    @DisplayName("모든 역 쌍의 경로표로 찾은 경로는 다익스트라로 찾은 경로와 비용이 같다")
+    @Test
+    void allPairsSameCostAsDijkstra() {
+        Random random = new Random(11);
+        int stationCount = 120;
+        SubwayGraph.Builder builder = SubwayGraph.builder(300);
+        for (int i = 0; i < 300; i++) {
+            long up = 1 + random.nextInt(stationCount);
+            long down = 1 + random.nextInt(stationCount);
+            if (up != down) {
+                builder.addSection(up, "역" + up, down, "역" + down, 1 + random.nextInt(20), 1 + random.nextInt(20));
+            }
+        }
+        SubwayGraph graph = builder.build(1);
+        SubwayGraph precomputed = graph.withAllPairs(ForkJoinPool.commonPool());
+
+        assertThat(precomputed.hasAllPairs()).isTrue();
+        assertThat(precomputed.getAllPairsBytes()).isEqualTo(16L * graph.getStationCount() * graph.getStationCount());
+        for (long source = 1; source <= stationCount; source++) {
+            for (long target = 1; target <= stationCount; target++) {
+                for (PathType type : PathType.values()) {
+                    var expected = graph.findPath(source, target, type);
+                    var actual = precomputed.findPath(source, target, type);
+
+                    assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+                    if (actual.isPresent()) {
+                        ShortestPath path = actual.get();
+                        assertThat(cost(path, type)).isEqualTo(cost(expected.get(), type));
+                        assertThat(path.getStationId(0)).isEqualTo(source);
+                        assertThat(path.getStationId(path.size() - 1)).isEqualTo(target);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int cost(ShortestPath path, PathType type) {
+        return type == PathType.DURATION ? path.getDuration() : path.getDistance();
+    }
+}
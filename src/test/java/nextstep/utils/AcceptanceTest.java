@@ -1,22 +1,47 @@
 package nextstep.utils;
 
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.auth.token.LoginRateLimiter;
+import nextstep.member.application.UserDetailsCache;
+import nextstep.subway.application.SubwayNetwork;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @ActiveProfiles("test")
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
 public class AcceptanceTest {
+    private static final String QUERY_COUNT = "X-Query-Count";
 
     @Autowired
     private DatabaseCleanup databaseCleanup;
     @Autowired
     private DataLoader dataLoader;
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+    @Autowired
+    private SubwayNetwork subwayNetwork;
 
     @BeforeEach
     public void setUp() {
         databaseCleanup.execute();
+        userDetailsCache.invalidateAll();
+        loginRateLimiter.reset();
+        subwayNetwork.invalidate();
         dataLoader.loadData();
     }
+
+    /**
+     * 요청 하나가 실행한 SQL 문 수가 정해 둔 예산을 넘지 않았는지 확인한다
+     */
+    public static void 쿼리_수_검증(ExtractableResponse<Response> response, int budget) {
+        assertThat(response.header(QUERY_COUNT)).isNotNull();
+        assertThat(Integer.parseInt(response.header(QUERY_COUNT))).isLessThanOrEqualTo(budget);
+    }
 }
@@ -0,0 +1,52 @@
+package nextstep.utils;
+
+import java.util.Arrays;
+
+public enum GithubResponses {
+    사용자1("832ovnq039hfjn", "access_token_1", "email1@email.com", 20),
+    사용자2("mkfo0aFa03m", "access_token_2", "email2@email.com", 21),
+    사용자3("m-a3hnfnoew92", "access_token_3", "email3@email.com", 22),
+    사용자4("nvci383mciq0", "access_token_4", "email4@email.com", 23);
+
+    private String code;
+    private String accessToken;
+    private String email;
+    private Integer age;
+
+    GithubResponses(String code, String accessToken, String email, Integer age) {
+        this.code = code;
+        this.accessToken = accessToken;
+        this.email = email;
+        this.age = age;
+    }
+
+    public static GithubResponses ofCode(String code) {
+        return Arrays.stream(values())
+                .filter(it -> it.code.equals(code))
+                .findFirst()
+                .orElseThrow(RuntimeException::new);
+    }
+
+    public static GithubResponses ofAccessToken(String accessToken) {
+        return Arrays.stream(values())
+                .filter(it -> it.accessToken.equals(accessToken))
+                .findFirst()
+                .orElseThrow(RuntimeException::new);
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+}
@@ -1,23 +1,29 @@
 package nextstep.utils;
 
+import nextstep.auth.token.oauth2.github.GithubAccessTokenRequest;
 import nextstep.auth.token.oauth2.github.GithubAccessTokenResponse;
 import nextstep.auth.token.oauth2.github.GithubProfileResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class GithubTestController {
 
     @PostMapping("/github/login/oauth/access_token")
-    public ResponseEntity<GithubAccessTokenResponse> accessToken() {
-        return ResponseEntity.ok().build();
+    public ResponseEntity<GithubAccessTokenResponse> accessToken(@RequestBody GithubAccessTokenRequest request) {
+        GithubResponses githubResponse = GithubResponses.ofCode(request.getCode());
+        GithubAccessTokenResponse response = new GithubAccessTokenResponse(githubResponse.getAccessToken(), "bearer", "", "");
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/github/user")
-    public ResponseEntity<GithubProfileResponse> user() {
-        return ResponseEntity.ok().build();
+    public ResponseEntity<GithubProfileResponse> user(@RequestHeader("Authorization") String authorization) {
+        String accessToken = authorization.split(" ")[1];
+        GithubResponses githubResponse = GithubResponses.ofAccessToken(accessToken);
+        return ResponseEntity.ok(new GithubProfileResponse(githubResponse.getEmail(), githubResponse.getAge()));
     }
 }
-